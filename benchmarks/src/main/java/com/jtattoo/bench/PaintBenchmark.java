@@ -0,0 +1,251 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.bench;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Paints the component of a ui delegate into an offscreen image under each JTattoo look and feel. The benchmark
+ * reports the average time per paint, run it with <code>-prof gc</code> to get the bytes allocated per paint
+ * (<code>gc.alloc.rate.norm</code>).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaintBenchmark {
+
+    @Param({"Acryl", "Aero", "Aluminium", "Bernstein", "Fast", "Graphite", "HiFi", "Luna", "McWin", "Mint", "Noire",
+        "Smart", "Texture"})
+    public String lookAndFeel;
+
+    @Param({"Button", "ToggleButton", "CheckBox", "RadioButton", "ComboBox", "Label", "ProgressBar", "Slider",
+        "ScrollBar", "Spinner", "TextField", "PasswordField", "FormattedTextField", "TextArea", "EditorPane",
+        "Separator", "SplitPane", "TabbedPane", "Table", "TableHeader", "Tree", "ScrollPane", "Panel", "ToolBar",
+        "MenuBar", "Menu", "MenuItem", "CheckBoxMenuItem", "RadioButtonMenuItem", "PopupMenu", "ToolTip",
+        "InternalFrame", "DesktopPane"})
+    public String delegate;
+
+    private JFrame frame;
+    private JComponent component;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final Exception error[] = new Exception[1];
+        SwingUtilities.invokeAndWait(new Runnable() {
+
+            public void run() {
+                try {
+                    install();
+                } catch (Exception ex) {
+                    error[0] = ex;
+                }
+            }
+        });
+        if (error[0] != null) {
+            throw error[0];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+        frame.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        component.paint(graphics);
+        return image;
+    }
+
+    private void install() throws Exception {
+        String className = "com.jtattoo.plaf." + lookAndFeel.toLowerCase() + "." + lookAndFeel + "LookAndFeel";
+        UIManager.setLookAndFeel((LookAndFeel) Class.forName(className).newInstance());
+        component = createComponent(delegate);
+        Dimension size = component.getPreferredSize();
+        int w = Math.max(size.width, 160);
+        int h = Math.max(size.height, 24);
+        // Some delegates look at their parent or root pane while painting and some need a displayable component
+        // to create their images, so the component is put into a frame which is made displayable but not shown.
+        frame = new JFrame();
+        frame.getContentPane().setLayout(null);
+        frame.getContentPane().add(component);
+        component.setBounds(0, 0, w, h);
+        frame.addNotify();
+        frame.setSize(w + 50, h + 50);
+        frame.validate();
+        // Paint straight into the image instead of the back buffer of the repaint manager
+        RepaintManager.currentManager(component).setDoubleBufferingEnabled(false);
+        image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        graphics.setClip(0, 0, w, h);
+    }
+
+    private static JComponent createComponent(String name) {
+        if ("Button".equals(name)) {
+            return new JButton("Button");
+        } else if ("ToggleButton".equals(name)) {
+            JToggleButton button = new JToggleButton("Toggle");
+            button.setSelected(true);
+            return button;
+        } else if ("CheckBox".equals(name)) {
+            return new JCheckBox("Check", true);
+        } else if ("RadioButton".equals(name)) {
+            return new JRadioButton("Radio", true);
+        } else if ("ComboBox".equals(name)) {
+            return new JComboBox(new String[]{"Item 1", "Item 2", "Item 3"});
+        } else if ("Label".equals(name)) {
+            return new JLabel("Label");
+        } else if ("ProgressBar".equals(name)) {
+            JProgressBar progressBar = new JProgressBar(0, 100);
+            progressBar.setValue(60);
+            progressBar.setStringPainted(true);
+            return progressBar;
+        } else if ("Slider".equals(name)) {
+            JSlider slider = new JSlider(0, 100, 40);
+            slider.setPaintTicks(true);
+            slider.setMajorTickSpacing(20);
+            return slider;
+        } else if ("ScrollBar".equals(name)) {
+            JScrollBar scrollBar = new JScrollBar(JScrollBar.VERTICAL, 20, 10, 0, 100);
+            scrollBar.setPreferredSize(new Dimension(17, 200));
+            return scrollBar;
+        } else if ("Spinner".equals(name)) {
+            return new JSpinner(new SpinnerNumberModel(5, 0, 10, 1));
+        } else if ("TextField".equals(name)) {
+            return new JTextField("Text field", 20);
+        } else if ("PasswordField".equals(name)) {
+            return new JPasswordField("Password", 20);
+        } else if ("FormattedTextField".equals(name)) {
+            JFormattedTextField textField = new JFormattedTextField(new Integer(12345));
+            textField.setColumns(20);
+            return textField;
+        } else if ("TextArea".equals(name)) {
+            return new JTextArea("Line 1\nLine 2\nLine 3", 5, 20);
+        } else if ("EditorPane".equals(name)) {
+            JEditorPane editorPane = new JEditorPane("text/plain", "Editor pane");
+            editorPane.setPreferredSize(new Dimension(200, 80));
+            return editorPane;
+        } else if ("Separator".equals(name)) {
+            return new JSeparator();
+        } else if ("SplitPane".equals(name)) {
+            JSplitPane splitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, new JLabel("Left"), new JLabel("Right"));
+            splitPane.setPreferredSize(new Dimension(300, 100));
+            splitPane.setDividerLocation(150);
+            return splitPane;
+        } else if ("TabbedPane".equals(name)) {
+            JTabbedPane tabbedPane = new JTabbedPane();
+            for (int i = 1; i <= 5; i++) {
+                tabbedPane.addTab("Tab " + i, new JLabel("Content " + i));
+            }
+            tabbedPane.setPreferredSize(new Dimension(400, 150));
+            return tabbedPane;
+        } else if ("Table".equals(name) || "TableHeader".equals(name)) {
+            JTable table = new JTable(new DefaultTableModel(20, 5));
+            if ("TableHeader".equals(name)) {
+                return table.getTableHeader();
+            }
+            JScrollPane scrollPane = new JScrollPane(table);
+            scrollPane.setPreferredSize(new Dimension(400, 200));
+            return scrollPane;
+        } else if ("Tree".equals(name)) {
+            JTree tree = new JTree();
+            for (int i = 0; i < tree.getRowCount(); i++) {
+                tree.expandRow(i);
+            }
+            return tree;
+        } else if ("ScrollPane".equals(name)) {
+            JScrollPane scrollPane = new JScrollPane(new JLabel("Scroll pane"));
+            scrollPane.setPreferredSize(new Dimension(200, 100));
+            scrollPane.getViewport().setViewSize(new Dimension(400, 400));
+            return scrollPane;
+        } else if ("Panel".equals(name)) {
+            JPanel panel = new JPanel();
+            panel.setPreferredSize(new Dimension(200, 100));
+            return panel;
+        } else if ("ToolBar".equals(name)) {
+            JToolBar toolBar = new JToolBar();
+            toolBar.add(new JButton("One"));
+            toolBar.add(new JButton("Two"));
+            toolBar.addSeparator();
+            toolBar.add(new JToggleButton("Three"));
+            return toolBar;
+        } else if ("MenuBar".equals(name)) {
+            JMenuBar menuBar = new JMenuBar();
+            menuBar.add(new JMenu("File"));
+            menuBar.add(new JMenu("Edit"));
+            menuBar.add(new JMenu("View"));
+            return menuBar;
+        } else if ("Menu".equals(name)) {
+            return new JMenu("Menu");
+        } else if ("MenuItem".equals(name)) {
+            return new JMenuItem("Menu item");
+        } else if ("CheckBoxMenuItem".equals(name)) {
+            return new JCheckBoxMenuItem("Check item", true);
+        } else if ("RadioButtonMenuItem".equals(name)) {
+            return new JRadioButtonMenuItem("Radio item", true);
+        } else if ("PopupMenu".equals(name)) {
+            JPopupMenu popupMenu = new JPopupMenu();
+            popupMenu.add(new JMenuItem("Item 1"));
+            popupMenu.add(new JCheckBoxMenuItem("Item 2", true));
+            popupMenu.addSeparator();
+            popupMenu.add(new JMenu("Item 3"));
+            return popupMenu;
+        } else if ("ToolTip".equals(name)) {
+            JToolTip toolTip = new JToolTip();
+            toolTip.setTipText("Tool tip");
+            return toolTip;
+        } else if ("InternalFrame".equals(name)) {
+            return createInternalFrame();
+        } else if ("DesktopPane".equals(name)) {
+            JDesktopPane desktopPane = new JDesktopPane();
+            desktopPane.setPreferredSize(new Dimension(400, 300));
+            desktopPane.add(createInternalFrame());
+            return desktopPane;
+        }
+        throw new IllegalArgumentException("Unknown delegate: " + name);
+    }
+
+    private static JInternalFrame createInternalFrame() {
+        JInternalFrame frame = new JInternalFrame("Internal frame", true, true, true, true);
+        frame.getContentPane().add(new JLabel("Content"));
+        frame.setBounds(10, 10, 240, 160);
+        frame.setPreferredSize(new Dimension(240, 160));
+        frame.setVisible(true);
+        return frame;
+    }
+
+} // end of class PaintBenchmark
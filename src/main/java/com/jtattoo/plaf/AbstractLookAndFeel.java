@@ -24,6 +24,7 @@ package com.jtattoo.plaf;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.concurrent.Future;
 import javax.swing.*;
 import javax.swing.plaf.ColorUIResource;
 import javax.swing.plaf.InsetsUIResource;
@@ -38,11 +39,43 @@ abstract public class AbstractLookAndFeel extends MetalLookAndFeel {
     protected static String currentThemeName = "abstractTheme";
 
     private static AbstractTheme myTheme = null;
+    private static Future iconPreloadFuture = null;
+    private static volatile int themeVersion = 0;
 
     abstract public AbstractBorderFactory getBorderFactory();
 
     abstract public AbstractIconFactory getIconFactory();
 
+    @Override
+    public UIDefaults getDefaults() {
+        UIDefaults table = super.getDefaults();
+        themeVersion++;
+        if (isIconPreloadingOn()) {
+            iconPreloadFuture = LazyImageIcon.preload(new ArrayList(table.values()));
+        }
+        return table;
+    }
+
+    /**
+     * Icon preloading decodes the image icons of the look and feel on background threads when the defaults are
+     * created instead of decoding them on the event dispatch thread when they are painted the first time. It is
+     * switched on with the system property "jtattoo.preloadIcons=true".
+     *
+     * @return true if icon preloading is switched on
+     */
+    public static boolean isIconPreloadingOn() {
+        return "true".equals(System.getProperty("jtattoo.preloadIcons"));
+    }
+
+    /**
+     * Returns a future which is done when all icons of the current look and feel have been decoded.
+     *
+     * @return the future of the icon preloading or null if icon preloading is off
+     */
+    public static Future getIconPreloadFuture() {
+        return iconPreloadFuture;
+    }
+
     @Override
     protected void initSystemColorDefaults(UIDefaults table) {
         Object[] systemColors = {
@@ -468,6 +501,7 @@ abstract public class AbstractLookAndFeel extends MetalLookAndFeel {
 
         MetalLookAndFeel.setCurrentTheme(theme);
         myTheme = theme;
+        themeVersion++;
         if (isWindowDecorationOn()) {
             JFrame.setDefaultLookAndFeelDecorated(true);
             JDialog.setDefaultLookAndFeelDecorated(true);
@@ -490,6 +524,16 @@ abstract public class AbstractLookAndFeel extends MetalLookAndFeel {
         return myTheme;
     }
 
+    /**
+     * Returns a counter which changes each time a theme is set or the look and feel is installed. Caches which
+     * depend on the theme colors can use it to detect that they have to be cleared.
+     *
+     * @return the current theme version
+     */
+    public static int getThemeVersion() {
+        return themeVersion;
+    }
+
     public static MetalTheme getCurrentTheme() {
         return myTheme;
     }
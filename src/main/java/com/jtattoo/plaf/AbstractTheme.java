@@ -28,6 +28,8 @@ import java.awt.Font;
 import java.awt.RenderingHints;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Properties;
 import javax.swing.Icon;
 import javax.swing.plaf.ColorUIResource;
@@ -185,6 +187,8 @@ public abstract class AbstractTheme extends MetalTheme {
     protected static Color SLIDER_COLORS[] = null;
     protected static Color PROGRESSBAR_COLORS[] = null;
 
+    private static final HashMap colorArrsMap = new HashMap();
+
     protected static String textureSet = "Default";
     protected static boolean darkTexture = true;
     protected static Icon windowTexture = null;
@@ -357,6 +361,36 @@ public abstract class AbstractTheme extends MetalTheme {
         PROGRESSBAR_COLORS = DEFAULT_COLORS;
     }
 
+    /**
+     * Sets up the color arrays for the given theme properties. The color arrays only depend on the class of the theme
+     * and on the theme properties, so they are computed once for each combination and shared when switching back to
+     * a theme which has been used before.
+     *
+     * @param props the theme properties
+     */
+    public void setUpColorArrs(Properties props) {
+        if (props == null) {
+            setUpColorArrs();
+            return;
+        }
+        ArrayList key = new ArrayList();
+        key.add(getClass());
+        key.add(props.clone());
+        ColorArrs colorArrs;
+        synchronized (colorArrsMap) {
+            colorArrs = (ColorArrs) colorArrsMap.get(key);
+        }
+        if (colorArrs == null) {
+            setUpColorArrs();
+            colorArrs = new ColorArrs();
+            synchronized (colorArrsMap) {
+                colorArrsMap.put(key, colorArrs);
+            }
+        } else {
+            colorArrs.apply();
+        }
+    }
+
     public void setProperties(Properties props) {
         if (props != null) {
             if (props.getProperty("logoString") != null) {
@@ -1489,4 +1523,70 @@ public abstract class AbstractTheme extends MetalTheme {
         return menubarTexture;
     }
 
+//------------------------------------------------------------------------------------------------------------------
+// inner classes
+//------------------------------------------------------------------------------------------------------------------
+    /**
+     * An immutable snapshot of the color arrays of a theme.
+     */
+    private static final class ColorArrs {
+
+        private final Color[][] colorArrs;
+
+        private ColorArrs() {
+            colorArrs = new Color[][] {
+                DEFAULT_COLORS,
+                HIDEFAULT_COLORS,
+                ACTIVE_COLORS,
+                INACTIVE_COLORS,
+                ROLLOVER_COLORS,
+                SELECTED_COLORS,
+                SELECTION_COLORS,
+                FOCUS_COLORS,
+                MENU_SELECTION_COLORS,
+                PRESSED_COLORS,
+                DISABLED_COLORS,
+                WINDOW_TITLE_COLORS,
+                WINDOW_INACTIVE_TITLE_COLORS,
+                TOOLBAR_COLORS,
+                MENUBAR_COLORS,
+                BUTTON_COLORS,
+                CHECKBOX_COLORS,
+                TAB_COLORS,
+                COL_HEADER_COLORS,
+                TRACK_COLORS,
+                THUMB_COLORS,
+                SLIDER_COLORS,
+                PROGRESSBAR_COLORS
+            };
+        }
+
+        private void apply() {
+            DEFAULT_COLORS = colorArrs[0];
+            HIDEFAULT_COLORS = colorArrs[1];
+            ACTIVE_COLORS = colorArrs[2];
+            INACTIVE_COLORS = colorArrs[3];
+            ROLLOVER_COLORS = colorArrs[4];
+            SELECTED_COLORS = colorArrs[5];
+            SELECTION_COLORS = colorArrs[6];
+            FOCUS_COLORS = colorArrs[7];
+            MENU_SELECTION_COLORS = colorArrs[8];
+            PRESSED_COLORS = colorArrs[9];
+            DISABLED_COLORS = colorArrs[10];
+            WINDOW_TITLE_COLORS = colorArrs[11];
+            WINDOW_INACTIVE_TITLE_COLORS = colorArrs[12];
+            TOOLBAR_COLORS = colorArrs[13];
+            MENUBAR_COLORS = colorArrs[14];
+            BUTTON_COLORS = colorArrs[15];
+            CHECKBOX_COLORS = colorArrs[16];
+            TAB_COLORS = colorArrs[17];
+            COL_HEADER_COLORS = colorArrs[18];
+            TRACK_COLORS = colorArrs[19];
+            THUMB_COLORS = colorArrs[20];
+            SLIDER_COLORS = colorArrs[21];
+            PROGRESSBAR_COLORS = colorArrs[22];
+        }
+
+    } // end of class ColorArrs
+
 } // end of class AbstractTheme
@@ -99,12 +99,12 @@ public class BaseButtonUI extends BasicButtonUI {
                 }
             } else {
                 if (model.isPressed() && model.isArmed()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
                 } else {
                     if (b.isRolloverEnabled() && model.isRollover()) {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
                     } else {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
                     }
                 }
             }
@@ -172,6 +172,16 @@ public class BaseButtonUI extends BasicButtonUI {
         BasicGraphicsUtils.drawDashedRect(g, 4, 3, b.getWidth() - 8, b.getHeight() - 6);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        int token = PaintStatistics.start();
+        try {
+            super.update(g, c);
+        } finally {
+            PaintStatistics.stop(token, this, c);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         Graphics2D g2D = (Graphics2D) g;
@@ -23,12 +23,25 @@
 
 package com.jtattoo.plaf;
 
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Window;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.*;
 import javax.swing.event.AncestorEvent;
 import javax.swing.event.AncestorListener;
+import javax.swing.filechooser.FileSystemView;
 import javax.swing.filechooser.FileView;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.metal.MetalFileChooserUI;
@@ -47,6 +60,32 @@ public class BaseFileChooserUI extends MetalFileChooserUI {
     
     private AncestorListener ancestorListener = null;
 
+    // The system icons are loaded in the background and shared by all file choosers
+    private static final int MAX_CACHED_ICONS = 1024;
+    private static final int MAX_CACHED_FILE_TYPES = 4096;
+    private static final int MAX_PENDING_ICONS = 512;
+    private static final int MAX_LOADER_THREADS = 2;
+    private static final Object NO_SYSTEM_ICON = new Object();
+    // Files with these extensions have their own icons, all other files share the icon of their extension
+    private static final String[] FILE_ICON_EXTENSIONS = {"exe", "lnk", "ico", "url", "cur", "ani", "scr", "msc", "appref-ms"};
+    private static final Map systemIconCache = new LinkedHashMap(64, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_CACHED_ICONS;
+        }
+    };
+    // Whether a file is a directory is only checked by the icon loader, never on the event dispatch thread
+    private static final Map fileTypeCache = new LinkedHashMap(256, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_CACHED_FILE_TYPES;
+        }
+    };
+    private static final Map pendingIcons = new HashMap();
+    private static ExecutorService iconLoader = null;
+
     public BaseFileChooserUI(JFileChooser fileChooser) {
         super(fileChooser);
         fileView = new BaseFileView();
@@ -116,25 +155,182 @@ public class BaseFileChooserUI extends MetalFileChooserUI {
         return fileView;
     }
 
+    /**
+     * Returns the cached system icon of the file. If the icon is not cached yet, it is loaded in the background and
+     * null is returned. The file chooser will be repainted as soon as the icon has been loaded.
+     *
+     * @param fc the file chooser which displays the file
+     * @param f the file
+     * @return the system icon or null if the icon is not available yet
+     */
+    protected static Icon getSystemIcon(JFileChooser fc, File f) {
+        FileSystemView fsv = fc.getFileSystemView();
+        String fileKey = getFileKey(fsv, f);
+        Boolean directory;
+        synchronized (fileTypeCache) {
+            directory = (Boolean) fileTypeCache.get(fileKey);
+        }
+        if (directory != null) {
+            String key = getSystemIconKey(fsv, f, directory.booleanValue());
+            synchronized (systemIconCache) {
+                Object icon = systemIconCache.get(key);
+                if (icon != null) {
+                    return (icon == NO_SYSTEM_ICON) ? null : (Icon) icon;
+                }
+            }
+        }
+        synchronized (pendingIcons) {
+            ArrayList clients = (ArrayList) pendingIcons.get(fileKey);
+            if (clients != null) {
+                if (!clients.contains(fc)) {
+                    clients.add(fc);
+                }
+                return null;
+            }
+            clients = new ArrayList();
+            clients.add(fc);
+            pendingIcons.put(fileKey, clients);
+        }
+        try {
+            getIconLoader().execute(new SystemIconLoader(fileKey, fsv, f));
+        } catch (RejectedExecutionException ex) {
+            // Too many pending icons, try again with the next request
+            synchronized (pendingIcons) {
+                pendingIcons.remove(fileKey);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if the icon loader has already found out that the file is a directory. The file system is not
+     * accessed.
+     *
+     * @param fc the file chooser which displays the file
+     * @param f the file
+     * @return true if the file is known to be a directory
+     */
+    protected static boolean isKnownDirectory(JFileChooser fc, File f) {
+        String fileKey = getFileKey(fc.getFileSystemView(), f);
+        synchronized (fileTypeCache) {
+            return Boolean.TRUE.equals(fileTypeCache.get(fileKey));
+        }
+    }
+
+    private static String getFileKey(FileSystemView fsv, File f) {
+        return fsv.getClass().getName() + "|" + f.getAbsolutePath();
+    }
+
+    private static String getSystemIconKey(FileSystemView fsv, File f, boolean directory) {
+        if (!directory) {
+            String name = f.getName();
+            int index = name.lastIndexOf('.');
+            if ((index > 0) && (index < name.length() - 1)) {
+                String extension = name.substring(index + 1).toLowerCase();
+                for (int i = 0; i < FILE_ICON_EXTENSIONS.length; i++) {
+                    if (FILE_ICON_EXTENSIONS[i].equals(extension)) {
+                        return getFileKey(fsv, f);
+                    }
+                }
+                return fsv.getClass().getName() + "|*." + extension;
+            }
+        }
+        return getFileKey(fsv, f);
+    }
+
+    private static synchronized ExecutorService getIconLoader() {
+        if (iconLoader == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_LOADER_THREADS, MAX_LOADER_THREADS, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue(MAX_PENDING_ICONS), new ThreadFactory() {
+
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "JTattoo-FileIconLoader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.allowCoreThreadTimeOut(true);
+            iconLoader = executor;
+        }
+        return iconLoader;
+    }
+
 //------------------------------------------------------------------------------    
     protected class BaseFileView extends BasicFileView {
 
         @Override
         public Icon getIcon(File f) {
-            Icon icon = getCachedIcon(f);
-            if (icon != null) {
-                return icon;
-            }
+            Icon icon = null;
             if (f != null) {
-                icon = getFileChooser().getFileSystemView().getSystemIcon(f);
+                icon = getSystemIcon(getFileChooser(), f);
             }
             if (icon == null) {
-                icon = super.getIcon(f);
+                // Default icon until the system icon has been loaded
+                icon = ((f != null) && isKnownDirectory(getFileChooser(), f)) ? directoryIcon : fileIcon;
             }
-            cacheIcon(f, icon);
             return icon;
         }
         
     } // end of class BaseFileView
+
+//------------------------------------------------------------------------------    
+    private static class SystemIconLoader implements Runnable {
+
+        private final String fileKey;
+        private final FileSystemView fsv;
+        private final File file;
+
+        public SystemIconLoader(String fileKey, FileSystemView fsv, File file) {
+            this.fileKey = fileKey;
+            this.fsv = fsv;
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            boolean directory = false;
+            try {
+                directory = file.isDirectory();
+            } catch (Exception ex) {
+            }
+            synchronized (fileTypeCache) {
+                fileTypeCache.put(fileKey, Boolean.valueOf(directory));
+            }
+            String key = getSystemIconKey(fsv, file, directory);
+            boolean cached;
+            synchronized (systemIconCache) {
+                cached = systemIconCache.containsKey(key);
+            }
+            if (!cached) {
+                Icon icon = null;
+                try {
+                    icon = fsv.getSystemIcon(file);
+                } catch (Exception ex) {
+                }
+                synchronized (systemIconCache) {
+                    systemIconCache.put(key, (icon != null) ? (Object) icon : NO_SYSTEM_ICON);
+                }
+            }
+            final ArrayList clients;
+            synchronized (pendingIcons) {
+                clients = (ArrayList) pendingIcons.remove(fileKey);
+            }
+            if (clients != null) {
+                SwingUtilities.invokeLater(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        for (int i = 0; i < clients.size(); i++) {
+                            ((Component) clients.get(i)).repaint();
+                        }
+                    }
+                });
+            }
+        }
+        
+    } // end of class SystemIconLoader
     
 } // end of class BaseFileChooserUI
@@ -633,8 +633,19 @@ public class BaseIcons {
         return thumbVerIconRollover;
     }
 
+    private static int getSymbolState(Component c, Color rolloverColor) {
+        int state = 0;
+        if (JTattooUtilities.isActive((JComponent) c)) {
+            state |= 0x01;
+        }
+        if ((c instanceof AbstractButton) && ((AbstractButton) c).getModel().isRollover() && (rolloverColor != null)) {
+            state |= 0x02;
+        }
+        return state;
+    }
+
 //-----------------------------------------------------------------------------------------------------------
-    private static class CheckBoxIcon implements Icon {
+    private static class CheckBoxIcon implements Icon, IconImageCache.IconPainter {
 
         private static int GAP = 2;
         private static final Icon SMALL_CHECK_ICON = new LazyImageIcon("icons/small/check_symbol_10x10.png");
@@ -646,6 +657,40 @@ public class BaseIcons {
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
+            AbstractButton button = (AbstractButton) c;
+            ButtonModel model = button.getModel();
+            int state = 0;
+            if (c instanceof JCheckBoxMenuItem) {
+                state |= 0x01;
+            }
+            if (button.isEnabled()) {
+                state |= 0x02;
+            }
+            if (button.isRolloverEnabled() && model.isRollover()) {
+                state |= 0x04;
+            }
+            if (AbstractLookAndFeel.getTheme().doShowFocusFrame() && button.hasFocus()) {
+                state |= 0x08;
+            }
+            if (model.isPressed()) {
+                state |= 0x10;
+            }
+            if (model.isArmed()) {
+                state |= 0x20;
+            }
+            if (model.isSelected()) {
+                state |= 0x40;
+            }
+            if (!JTattooUtilities.isLeftToRight(c)) {
+                state |= 0x80;
+            }
+            if (!IconImageCache.paintIcon(this, state, c, g, x, y, getIconWidth(), getIconHeight())) {
+                paintIconImage(c, g, x, y);
+            }
+        }
+
+        @Override
+        public void paintIconImage(Component c, Graphics g, int x, int y) {
             if (!JTattooUtilities.isLeftToRight(c)) {
                 x += GAP;
             }
@@ -752,12 +797,46 @@ public class BaseIcons {
     }
 
 //-----------------------------------------------------------------------------------------------------------
-    private static class RadioButtonIcon implements Icon {
+    private static class RadioButtonIcon implements Icon, IconImageCache.IconPainter {
         
         private static int GAP = 2;
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
+            AbstractButton button = (AbstractButton) c;
+            ButtonModel model = button.getModel();
+            int state = 0;
+            if (c instanceof JRadioButtonMenuItem) {
+                state |= 0x01;
+            }
+            if (button.isEnabled()) {
+                state |= 0x02;
+            }
+            if (button.isRolloverEnabled()) {
+                state |= 0x04;
+            }
+            if (model.isRollover()) {
+                state |= 0x08;
+            }
+            if (AbstractLookAndFeel.getTheme().doShowFocusFrame() && button.hasFocus()) {
+                state |= 0x10;
+            }
+            if (model.isPressed() && model.isArmed()) {
+                state |= 0x20;
+            }
+            if (model.isSelected()) {
+                state |= 0x40;
+            }
+            if (!JTattooUtilities.isLeftToRight(c)) {
+                state |= 0x80;
+            }
+            if (!IconImageCache.paintIcon(this, state, c, g, x, y, getIconWidth(), getIconHeight())) {
+                paintIconImage(c, g, x, y);
+            }
+        }
+
+        @Override
+        public void paintIconImage(Component c, Graphics g, int x, int y) {
             if (!JTattooUtilities.isLeftToRight(c)) {
                 x += GAP;
             }
@@ -1174,7 +1253,7 @@ public class BaseIcons {
     } // end of class MacMinIcon
     
 //-----------------------------------------------------------------------------------------------------------
-    public static class IconSymbol implements Icon {
+    public static class IconSymbol implements Icon, IconImageCache.IconPainter {
 
         private Color foregroundColor = null;
         private Color shadowColor = null;
@@ -1221,6 +1300,14 @@ public class BaseIcons {
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
+            // The symbol fills the whole component
+            if (!IconImageCache.paintIcon(this, getSymbolState(c, rolloverColor), c, g, 0, 0, c.getWidth(), c.getHeight())) {
+                paintIconImage(c, g, x, y);
+            }
+        }
+
+        @Override
+        public void paintIconImage(Component c, Graphics g, int x, int y) {
             Graphics2D g2D = (Graphics2D) g;
             g2D.translate(insets.left, insets.top);
             int w = c.getWidth() - insets.left - insets.right;
@@ -1260,7 +1347,7 @@ public class BaseIcons {
     } // end of class IconSymbol
 
 //-----------------------------------------------------------------------------------------------------------
-    public static class MaxSymbol implements Icon {
+    public static class MaxSymbol implements Icon, IconImageCache.IconPainter {
 
         private Color foregroundColor = null;
         private Color shadowColor = null;
@@ -1307,6 +1394,14 @@ public class BaseIcons {
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
+            // The symbol fills the whole component
+            if (!IconImageCache.paintIcon(this, getSymbolState(c, rolloverColor), c, g, 0, 0, c.getWidth(), c.getHeight())) {
+                paintIconImage(c, g, x, y);
+            }
+        }
+
+        @Override
+        public void paintIconImage(Component c, Graphics g, int x, int y) {
             Graphics2D g2D = (Graphics2D) g;
             g2D.translate(insets.left, insets.top);
             int w = c.getWidth() - insets.left - insets.right;
@@ -1348,7 +1443,7 @@ public class BaseIcons {
     } // end of class MaxSymbol
 
 //-----------------------------------------------------------------------------------------------------------
-    public static class MinSymbol implements Icon {
+    public static class MinSymbol implements Icon, IconImageCache.IconPainter {
 
         private Color foregroundColor = null;
         private Color shadowColor = null;
@@ -1395,6 +1490,14 @@ public class BaseIcons {
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
+            // The symbol fills the whole component
+            if (!IconImageCache.paintIcon(this, getSymbolState(c, rolloverColor), c, g, 0, 0, c.getWidth(), c.getHeight())) {
+                paintIconImage(c, g, x, y);
+            }
+        }
+
+        @Override
+        public void paintIconImage(Component c, Graphics g, int x, int y) {
             Graphics2D g2D = (Graphics2D) g;
             g2D.translate(insets.left, insets.top);
             int w = c.getWidth() - insets.left - insets.right;
@@ -1460,7 +1563,7 @@ public class BaseIcons {
     } // end of class MinSymbol
 
 //-----------------------------------------------------------------------------------------------------------
-    public static class CloseSymbol implements Icon {
+    public static class CloseSymbol implements Icon, IconImageCache.IconPainter {
 
         private Color foregroundColor = null;
         private Color shadowColor = null;
@@ -1507,6 +1610,14 @@ public class BaseIcons {
 
         @Override
         public void paintIcon(Component c, Graphics g, int x, int y) {
+            // The symbol fills the whole component
+            if (!IconImageCache.paintIcon(this, getSymbolState(c, rolloverColor), c, g, 0, 0, c.getWidth(), c.getHeight())) {
+                paintIconImage(c, g, x, y);
+            }
+        }
+
+        @Override
+        public void paintIconImage(Component c, Graphics g, int x, int y) {
             Graphics2D g2D = (Graphics2D) g;
             g2D.translate(insets.left, insets.top);
             int w = c.getWidth() - insets.left - insets.right;
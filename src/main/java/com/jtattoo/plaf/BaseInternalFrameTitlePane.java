@@ -311,7 +311,7 @@ public class BaseInternalFrameTitlePane extends BasicInternalFrameTitlePane impl
                 int iconWidth = getIconWidth();
                 titleWidth -= iconWidth + 4;
                 frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                int titleLength = fm.stringWidth(frameTitle);
+                int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                 x += buttonsWidth + ((titleWidth - titleLength) / 2);
                 paintIcon(g, x);
                 x += iconWidth + 4;
@@ -320,7 +320,7 @@ public class BaseInternalFrameTitlePane extends BasicInternalFrameTitlePane impl
                 titleWidth -= iconWidth + 4;
                 frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
                 if (AbstractLookAndFeel.getTheme().isCenterWindowTitleOn()) {
-                    int titleLength = fm.stringWidth(frameTitle);
+                    int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                     x += iconWidth + 4;
                     x += (titleWidth - titleLength) / 2;
                 } else {
@@ -332,7 +332,7 @@ public class BaseInternalFrameTitlePane extends BasicInternalFrameTitlePane impl
             if (isMacStyleWindowDecoration()) {
                 titleWidth -= iconWidth + 4;
                 frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                int titleLength = fm.stringWidth(frameTitle);
+                int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                 x = buttonsWidth + 4 + ((titleWidth - titleLength) / 2);
                 paintIcon(g, x + titleLength + 4);
             } else {
@@ -340,7 +340,7 @@ public class BaseInternalFrameTitlePane extends BasicInternalFrameTitlePane impl
                 paintIcon(g, x);
                 titleWidth -= iconWidth + 4;
                 frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                int titleLength = fm.stringWidth(frameTitle);
+                int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                 if (AbstractLookAndFeel.getTheme().isCenterWindowTitleOn()) {
                     x = buttonsWidth + 4 + ((titleWidth - titleLength) / 2);
                 } else {
@@ -406,7 +406,7 @@ public class BaseInternalFrameTitlePane extends BasicInternalFrameTitlePane impl
             }
             FontMetrics fm = JTattooUtilities.getFontMetrics(BaseInternalFrameTitlePane.this, null, getFont());
             String frameTitle = frame.getTitle();
-            int title_w = frameTitle != null ? fm.stringWidth(frameTitle) : 0;
+            int title_w = TextWidthCache.getStringWidth(fm, frameTitle);
             int title_length = frameTitle != null ? frameTitle.length() : 0;
 
             if (title_length > 2) {
@@ -37,6 +37,10 @@ import javax.swing.plaf.basic.BasicPopupMenuUI;
 public class BasePopupMenuUI extends BasicPopupMenuUI {
 
     protected static Robot robot = null;
+    private static boolean robotFailed = false;
+    private static int windowBackdropCount = 0;
+    private static int screenCaptureCount = 0;
+    private static long backdropTime = 0;
     protected BufferedImage screenImage = null;
     protected MyPopupMenuListener myPopupListener = null;
 
@@ -75,14 +79,17 @@ public class BasePopupMenuUI extends BasicPopupMenuUI {
     }
 
     private boolean isMenuOpaque() {
-        return (AbstractLookAndFeel.getTheme().isMenuOpaque() || (getRobot() == null));
+        return AbstractLookAndFeel.getTheme().isMenuOpaque();
     }
 
     private Robot getRobot() {
-        if (robot == null) {
+        if ((robot == null) && !robotFailed) {
             try {
                 robot = new Robot();
             } catch (AWTException ex) {
+                robotFailed = true;
+            } catch (SecurityException ex) {
+                robotFailed = true;
             }
         }
         return robot;
@@ -93,10 +100,21 @@ public class BasePopupMenuUI extends BasicPopupMenuUI {
         Popup popup = super.getPopup(popupMenu, x, y);
         if (!isMenuOpaque()) {
             try {
+                screenImage = null;
                 Dimension size = popupMenu.getPreferredSize();
                 if (size.width > 0 && size.height > 0) {
                     Rectangle screenRect = new Rectangle(x, y, size.width, size.height);
-                    screenImage = getRobot().createScreenCapture(screenRect);
+                    long start = System.nanoTime();
+                    // First try to paint the content of the invokers window, this is much faster than a screen
+                    // capture. If the popup exceeds the bounds of the window we have to capture the screen.
+                    screenImage = paintWindowBackdrop(popupMenu, screenRect);
+                    if (screenImage != null) {
+                        windowBackdropCount++;
+                    } else if (getRobot() != null) {
+                        screenImage = getRobot().createScreenCapture(screenRect);
+                        screenCaptureCount++;
+                    }
+                    backdropTime += System.nanoTime() - start;
                 }
                 for (int i = 0; i < popupMenu.getComponentCount(); i++) {
                     if (popupMenu.getComponent(i) instanceof JPanel) {
@@ -111,6 +129,82 @@ public class BasePopupMenuUI extends BasicPopupMenuUI {
         return popup;
     }
 
+    /**
+     * Paints the part of the invokers window which will be covered by the popup menu into an offscreen image.
+     *
+     * @param popupMenu the popup menu
+     * @param screenRect the bounds of the popup menu in screen coordinates
+     *
+     * @return the backdrop image or null if the content of the invokers window can't be used as backdrop
+     */
+    protected BufferedImage paintWindowBackdrop(JPopupMenu popupMenu, Rectangle screenRect) {
+        Component invoker = popupMenu.getInvoker();
+        Window window = (invoker != null) ? SwingUtilities.getWindowAncestor(invoker) : null;
+        if (!(window instanceof RootPaneContainer) || !window.isActive()) {
+            return null;
+        }
+        JRootPane root = ((RootPaneContainer) window).getRootPane();
+        if ((root == null) || !root.isShowing()) {
+            return null;
+        }
+        Point rootLocation = root.getLocationOnScreen();
+        Rectangle rootRect = new Rectangle(rootLocation.x, rootLocation.y, root.getWidth(), root.getHeight());
+        if (!rootRect.contains(screenRect) || isCoveredByOtherWindow(window, screenRect) || hasHeavyweightChildren(root)) {
+            return null;
+        }
+        BufferedImage image = root.getGraphicsConfiguration().createCompatibleImage(screenRect.width, screenRect.height);
+        Graphics2D g2D = image.createGraphics();
+        g2D.translate(rootLocation.x - screenRect.x, rootLocation.y - screenRect.y);
+        g2D.setClip(screenRect.x - rootLocation.x, screenRect.y - rootLocation.y, screenRect.width, screenRect.height);
+        root.paint(g2D);
+        g2D.dispose();
+        return image;
+    }
+
+    private static boolean isCoveredByOtherWindow(Window window, Rectangle screenRect) {
+        Window windows[] = Window.getWindows();
+        for (int i = 0; i < windows.length; i++) {
+            if ((windows[i] != window) && windows[i].isShowing() && windows[i].getBounds().intersects(screenRect)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasHeavyweightChildren(Container container) {
+        for (int i = 0; i < container.getComponentCount(); i++) {
+            Component c = container.getComponent(i);
+            if (!c.isLightweight()) {
+                return true;
+            }
+            if ((c instanceof Container) && hasHeavyweightChildren((Container) c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of popup backdrops painted from the content of the invokers window
+     */
+    public static int getWindowBackdropCount() {
+        return windowBackdropCount;
+    }
+
+    /**
+     * @return the number of popup backdrops captured from the screen
+     */
+    public static int getScreenCaptureCount() {
+        return screenCaptureCount;
+    }
+
+    /**
+     * @return the total time in nanoseconds spent to create the backdrops of translucent popup menus
+     */
+    public static long getBackdropTime() {
+        return backdropTime;
+    }
+
     private void resetScreenImage() {
         screenImage = null;
     }
@@ -158,7 +158,7 @@ public class BaseProgressBarUI extends BasicProgressBarUI {
         } else {
             Color hiColor = ColorHelper.brighter(progressBar.getForeground(), 40);
             Color loColor = ColorHelper.darker(progressBar.getForeground(), 20);
-            colors = ColorHelper.createColorArr(hiColor, loColor, 20);
+            colors = ColorHelper.getSharedColorArr(hiColor, loColor, 20);
         }
 
         Color cHi = ColorHelper.darker(colors[colors.length - 1], 5);
@@ -219,7 +219,7 @@ public class BaseProgressBarUI extends BasicProgressBarUI {
         } else {
             Color hiColor = ColorHelper.brighter(progressBar.getForeground(), 40);
             Color loColor = ColorHelper.darker(progressBar.getForeground(), 20);
-            colors = ColorHelper.createColorArr(hiColor, loColor, 20);
+            colors = ColorHelper.getSharedColorArr(hiColor, loColor, 20);
         }
         Color cHi = ColorHelper.darker(colors[colors.length - 1], 5);
         Color cLo = ColorHelper.darker(colors[colors.length - 1], 10);
@@ -250,6 +250,40 @@ public class BaseProgressBarUI extends BasicProgressBarUI {
         }
     }
 
+    /**
+     * The indeterminate animation is driven by the shared {@link ProgressBarAnimator} instead of a timer per
+     * progress bar.
+     */
+    @Override
+    protected void startAnimationTimer() {
+        ProgressBarAnimator.register(this);
+    }
+
+    @Override
+    protected void stopAnimationTimer() {
+        ProgressBarAnimator.unregister(this);
+    }
+
+    /**
+     * Moves the bouncing box to the position of the given frame of the shared animation clock. Only the old and
+     * the new box are repainted and progress bars which aren't visible are not repainted at all.
+     *
+     * @param frame the current frame of the animation clock
+     */
+    protected void animate(long frame) {
+        if ((progressBar == null) || !progressBar.isShowing()) {
+            return;
+        }
+        Rectangle visibleRect = progressBar.getVisibleRect();
+        if ((visibleRect.width <= 0) || (visibleRect.height <= 0)) {
+            return;
+        }
+        int frameCount = getFrameCount();
+        if (frameCount > 0) {
+            setAnimationIndex((int) (frame % frameCount));
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         if (progressBar.isIndeterminate()) {
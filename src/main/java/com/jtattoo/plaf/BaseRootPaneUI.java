@@ -23,6 +23,8 @@
 package com.jtattoo.plaf;
 
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.InputEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.WindowAdapter;
@@ -91,6 +93,10 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
      */
     private static final Dimension MINIMUM_SIZE = new Dimension(120, 80);
     private static final Dimension MAXIMUM_SIZE = Toolkit.getDefaultToolkit().getScreenSize();
+    /**
+     * Delay in milliseconds between two location or size updates while the window is moved or resized.
+     */
+    private static final int FRAME_DELAY = 16;
     /**
      * The amount of space (in pixels) that the cursor is changed on.
      */
@@ -631,6 +637,17 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
         private int dragHeight;
         private Container savedContentPane = null;
         private ResizingPanel resizingPanel = null;
+        /**
+         * Upper limit of the screens, calculated once when the drag operation starts.
+         */
+        private int minScreenY = 0;
+        /**
+         * Location or bounds which will be applied to the window with the next frame.
+         */
+        private Window pendingWindow = null;
+        private Point pendingLocation = null;
+        private Rectangle pendingBounds = null;
+        private Timer updateTimer = null;
 
         @Override
         public void mousePressed(MouseEvent ev) {
@@ -641,6 +658,7 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
                     return;
                 }
                 w.toFront();
+                minScreenY = getMinScreenY();
 
                 Point dragWindowOffset = ev.getPoint();
                 Point convertedDragWindowOffset = SwingUtilities.convertPoint(w, dragWindowOffset, internalGetTitlePane());
@@ -715,6 +733,7 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
         public void mouseReleased(MouseEvent ev) {
             if (ev.getSource() instanceof Window) {
                 Window w = (Window) ev.getSource();
+                flushPendingUpdate();
                 if (w != null) {
                     if (!isDynamicLayout() && isResizingWindow) {
                         getRootPane().setContentPane(savedContentPane);
@@ -847,6 +866,7 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
                                 int nx = pt.x * nw / ow;
                                 int ny = pt.y;
                                 w.setLocation(nx, ny);
+                                minScreenY = getMinScreenY();
                                 dragOffsetX = nx;
                                 dragOffsetY = ny;
                                 isMovingWindow = true;
@@ -857,13 +877,14 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
                         }
                     }
                 }
-                
-                int minScreenY = getMinScreenY();
+
                 if (isMovingWindow) {
                     Point location = ev.getLocationOnScreen();
                     location.x -= dragOffsetX;
                     location.y = Math.max(minScreenY, location.y - dragOffsetY);
-                    w.setLocation(location);
+                    pendingWindow = w;
+                    pendingLocation = location;
+                    schedulePendingUpdate();
                 } else if (dragCursor != 0) {
                     Point pt = ev.getPoint();
                     Rectangle bounds = w.getBounds();
@@ -903,11 +924,53 @@ public class BaseRootPaneUI extends BasicRootPaneUI {
                             bounds.y = minScreenY;
                             bounds.height -= delta;
                         }
-                        w.setBounds(bounds);
-                        w.validate();
+                        pendingWindow = w;
+                        pendingBounds = bounds;
+                        schedulePendingUpdate();
+                    } else {
+                        pendingBounds = null;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Applies the pending location or bounds with the next frame, so all drag events which arrive in between are
+         * coalesced into one update and one layout of the window.
+         */
+        private void schedulePendingUpdate() {
+            if (updateTimer == null) {
+                updateTimer = new Timer(FRAME_DELAY, new ActionListener() {
+
+                    @Override
+                    public void actionPerformed(ActionEvent e) {
+                        flushPendingUpdate();
                     }
+                });
+                updateTimer.setRepeats(false);
+            }
+            if (!updateTimer.isRunning()) {
+                updateTimer.start();
+            }
+        }
+
+        private void flushPendingUpdate() {
+            if (updateTimer != null) {
+                updateTimer.stop();
+            }
+            Window w = pendingWindow;
+            if (w != null) {
+                if (pendingLocation != null) {
+                    w.setLocation(pendingLocation);
+                }
+                if (pendingBounds != null) {
+                    w.setBounds(pendingBounds);
+                    w.validate();
                 }
             }
+            pendingWindow = null;
+            pendingLocation = null;
+            pendingBounds = null;
         }
 
         @Override
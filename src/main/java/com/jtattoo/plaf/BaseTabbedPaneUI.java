@@ -37,9 +37,15 @@ import java.util.HashMap;
 import javax.swing.*;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.MenuKeyEvent;
+import javax.swing.event.MenuKeyListener;
 import javax.swing.plaf.*;
 import javax.swing.plaf.basic.BasicGraphicsUtils;
 import javax.swing.plaf.basic.BasicHTML;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 import javax.swing.text.View;
 
 /**
@@ -100,6 +106,7 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
     private InputMap mnemonicInputMap;
     // For use when tabLayoutPolicy = SCROLL_TAB_LAYOUT
     private ScrollableTabSupport tabScroller;
+    private TabListPopup tabListPopup;
     private TabContainer tabContainer;
     /**
      * A rectangle used for general layout calculations in order
@@ -230,6 +237,7 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
             tabPane.remove(tabScroller.popupMenuButton);
             tabScroller = null;
         }
+        tabListPopup = null;
     }
 
     private void addMyPropertyChangeListeners(Component component) {
@@ -559,11 +567,11 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
                 }
             } else if (backColor != null) {
                 if (isSelected) {
-                    colorArr = ColorHelper.createColorArr(ColorHelper.brighter(backColor, 60), backColor, 20);
+                    colorArr = ColorHelper.getSharedColorArr(ColorHelper.brighter(backColor, 60), backColor, 20);
                 } else if (isRollover && isEnabled) {
-                    colorArr = ColorHelper.createColorArr(ColorHelper.brighter(backColor, 80), ColorHelper.brighter(backColor, 20), 20);
+                    colorArr = ColorHelper.getSharedColorArr(ColorHelper.brighter(backColor, 80), ColorHelper.brighter(backColor, 20), 20);
                 } else {
-                    colorArr = ColorHelper.createColorArr(ColorHelper.brighter(backColor, 40), ColorHelper.darker(backColor, 10), 20);
+                    colorArr = ColorHelper.getSharedColorArr(ColorHelper.brighter(backColor, 40), ColorHelper.darker(backColor, 10), 20);
                 }
             }
         }
@@ -648,6 +656,16 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
     }
 
     // UI Rendering
+    @Override
+    public void update(Graphics g, JComponent c) {
+        int token = PaintStatistics.start();
+        try {
+            super.update(g, c);
+        } finally {
+            PaintStatistics.stop(token, this, c);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         int tc = tabPane.getTabCount();
@@ -1532,9 +1550,58 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
         if (scrollableTabLayoutEnabled()) {
             translatePointToTabPanel(x, y, p);
         }
-        int tc = tabPane.getTabCount();
-        for (int i = 0; i < tc; i++) {
-            if (rects[i].contains(p.x, p.y)) {
+        int tc = Math.min(tabPane.getTabCount(), rects.length);
+        if (tc == 0) {
+            return -1;
+        }
+        int tabPlacement = tabPane.getTabPlacement();
+        boolean horizontal = (tabPlacement == TOP) || (tabPlacement == BOTTOM);
+        if (runCount <= 1) {
+            return findTabInRun(0, tc - 1, horizontal, p.x, p.y);
+        }
+        for (int i = 0; i < runCount; i++) {
+            int first = tabRuns[i];
+            int last = Math.min(lastTabInRun(tc, i), tc - 1);
+            int index = findTabInRun(first, last, horizontal, p.x, p.y);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * The tabs of one run are placed side by side, so the tab which contains the point can be found with a binary
+     * search along the run. Depending on the component orientation the tabs are placed in ascending or descending
+     * order.
+     */
+    private int findTabInRun(int first, int last, boolean horizontal, int x, int y) {
+        if ((first < 0) || (first > last)) {
+            return -1;
+        }
+        int pos = horizontal ? x : y;
+        boolean ascending = horizontal ? (rects[first].x <= rects[last].x) : (rects[first].y <= rects[last].y);
+        int lo = first;
+        int hi = last;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int start = horizontal ? rects[mid].x : rects[mid].y;
+            if (ascending ? (start <= pos) : (start > pos)) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (found < 0) {
+            found = first;
+        } else if (!ascending) {
+            found = Math.min(found + 1, last);
+        }
+        // The neighbours may overlap the found tab (e.g. a padded selected tab), prefer the lower index
+        for (int i = Math.max(first, found - 1); i <= Math.min(last, found + 1); i++) {
+            if (rects[i].contains(x, y)) {
                 return i;
             }
         }
@@ -1800,7 +1867,7 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
             } else {
                 // plain text
                 String title = tabPane.getTitleAt(tabIndex);
-                width += SwingUtilities.computeStringWidth(metrics, title);
+                width += getTitleWidth(metrics, title);
             }
         }
 
@@ -1810,12 +1877,25 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
     protected int calculateMaxTabWidth(int tabPlacement) {
         int tc = tabPane.getTabCount();
         int result = 0;
+        FontMetrics fm = getFontMetrics();
         for (int i = 0; i < tc; i++) {
-            result = Math.max(calculateTabWidth(tabPlacement, i, getFontMetrics()), result);
+            result = Math.max(calculateTabWidth(tabPlacement, i, fm), result);
         }
         return result;
     }
 
+    /**
+     * Returns the width of a plain text tab title. The widths are kept in the shared text width cache, so adding,
+     * removing or moving a tab doesn't remeasure the titles of the other tabs.
+     *
+     * @param metrics the font metrics used to measure the title
+     * @param title the tab title
+     * @return the width of the title
+     */
+    protected int getTitleWidth(FontMetrics metrics, String title) {
+        return TextWidthCache.getStringWidth(metrics, title);
+    }
+
     protected int calculateTabAreaHeight(int tabPlacement, int horizRunCount, int maxTabHeight) {
         if (tabPlacement == JTabbedPane.TOP || tabPlacement == JTabbedPane.BOTTOM) {
             Insets insets = getTabAreaInsets(tabPlacement);
@@ -2306,22 +2386,6 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
         }
     }
 
-    private static class ScrollTabsPopupMenuItemAction extends AbstractAction {
-
-        private JTabbedPane tabbedPane = null;
-        private int selectIndex = 0;
-
-        public ScrollTabsPopupMenuItemAction(JTabbedPane pane, int index) {
-            tabbedPane = pane;
-            selectIndex = index;
-        }
-
-        @Override
-        public void actionPerformed(ActionEvent e) {
-            tabbedPane.setSelectedIndex(selectIndex);
-        }
-    }
-
     private static class ScrollTabsPopupMenuAction extends AbstractAction {
 
         private JTabbedPane tabbedPane = null;
@@ -2338,20 +2402,10 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
             }
             BaseTabbedPaneUI ui = (BaseTabbedPaneUI) tabbedPane.getUI();
             if (ui.scrollableTabLayoutEnabled()) {
-                JPopupMenu popup = new JPopupMenu();
-                for (int i = 0; i < tabbedPane.getTabCount(); i++) {
-                    JMenuItem item = new JMenuItem(tabbedPane.getTitleAt(i));
-                    item.addActionListener(new ScrollTabsPopupMenuItemAction(tabbedPane, i));
-                    item.setEnabled(tabbedPane.isEnabledAt(i));
-                    popup.add(item);
-                }
-                popup.show(ui.tabScroller.popupMenuButton, 0, 0);
-                if (ui.tabScroller.popupMenuButton.isShowing()) {
-                    Point pt = ui.tabScroller.popupMenuButton.getLocationOnScreen();
-                    int x = -popup.getWidth() + ui.tabScroller.popupMenuButton.getWidth();
-                    int y = ui.tabScroller.popupMenuButton.getHeight() - 1;
-                    popup.setLocation(pt.x + x, pt.y + y);
+                if (ui.tabListPopup == null) {
+                    ui.tabListPopup = ui.new TabListPopup();
                 }
+                ui.tabListPopup.showPopup(ui.tabScroller.popupMenuButton);
             }
         }
     }
@@ -3610,6 +3664,263 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
         }
     }
 
+    /**
+     * The popup of the tab list button. It is created once per tabbed pane and shows the tab titles in a list
+     * which reads them from the tabbed pane, so opening it doesn't create a component per tab. While the popup is
+     * open the keyboard focus stays with the root pane of the invoker, which passes the key events on to the popup
+     * as menu key events. Typed characters are added to the filter field above the list, which filters the tabs by
+     * their titles.
+     */
+    private class TabListPopup extends JPopupMenu implements UIResource {
+
+        private static final int MAX_VISIBLE_ROWS = 20;
+
+        private final TabListModel model;
+        private final JList list;
+        private final JTextField filterField;
+
+        TabListPopup() {
+            setLayout(new BorderLayout());
+            model = new TabListModel();
+            list = new JList(model);
+            list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+            list.setFocusable(false);
+            list.setCellRenderer(new TabListCellRenderer());
+            list.addMouseListener(new MouseAdapter() {
+
+                @Override
+                public void mouseReleased(MouseEvent e) {
+                    int row = list.locationToIndex(e.getPoint());
+                    if ((row >= 0) && list.getCellBounds(row, row).contains(e.getPoint())) {
+                        selectTab(row);
+                    }
+                }
+            });
+            filterField = new JTextField();
+            filterField.getDocument().addDocumentListener(new DocumentListener() {
+
+                public void insertUpdate(DocumentEvent e) {
+                    filterChanged();
+                }
+
+                public void removeUpdate(DocumentEvent e) {
+                    filterChanged();
+                }
+
+                public void changedUpdate(DocumentEvent e) {
+                    filterChanged();
+                }
+            });
+            filterField.setFocusable(false);
+            addMenuKeyListener(new MenuKeyListener() {
+
+                public void menuKeyPressed(MenuKeyEvent e) {
+                    if (e.getModifiers() != 0) {
+                        return;
+                    }
+                    if (e.getKeyCode() == KeyEvent.VK_UP) {
+                        moveSelection(-1);
+                        e.consume();
+                    } else if (e.getKeyCode() == KeyEvent.VK_DOWN) {
+                        moveSelection(1);
+                        e.consume();
+                    } else if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+                        selectTab(list.getSelectedIndex());
+                        e.consume();
+                    }
+                }
+
+                public void menuKeyReleased(MenuKeyEvent e) {
+                }
+
+                public void menuKeyTyped(MenuKeyEvent e) {
+                    char c = e.getKeyChar();
+                    if ((c == '\b') || !Character.isISOControl(c)) {
+                        editFilter(c);
+                        e.consume();
+                    }
+                }
+            });
+            JScrollPane scrollPane = new JScrollPane(list, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED, JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+            scrollPane.setBorder(BorderFactory.createEmptyBorder());
+            add(filterField, BorderLayout.NORTH);
+            add(scrollPane, BorderLayout.CENTER);
+        }
+
+        void showPopup(Component invoker) {
+            filterField.setText("");
+            model.setFilter("");
+            updateListSize();
+            list.setSelectedIndex(model.indexOfTab(tabPane.getSelectedIndex()));
+            Dimension size = getPreferredSize();
+            show(invoker, invoker.getWidth() - size.width, invoker.getHeight() - 1);
+            list.ensureIndexIsVisible(list.getSelectedIndex());
+        }
+
+        private void editFilter(char c) {
+            Document doc = filterField.getDocument();
+            try {
+                if (c != '\b') {
+                    doc.insertString(doc.getLength(), String.valueOf(c), null);
+                } else if (doc.getLength() > 0) {
+                    doc.remove(doc.getLength() - 1, 1);
+                }
+            } catch (BadLocationException ex) {
+            }
+        }
+
+        private void updateListSize() {
+            // The widest title is used as prototype, so the list doesn't lay out every cell to get its size
+            FontMetrics fm = list.getFontMetrics(list.getFont());
+            int widestTab = -1;
+            int maxWidth = -1;
+            for (int i = 0; i < tabPane.getTabCount(); i++) {
+                int width = TextWidthCache.getStringWidth(fm, tabPane.getTitleAt(i));
+                if (width > maxWidth) {
+                    maxWidth = width;
+                    widestTab = i;
+                }
+            }
+            list.setPrototypeCellValue((widestTab < 0) ? null : new Integer(widestTab));
+            list.setVisibleRowCount(Math.max(1, Math.min(MAX_VISIBLE_ROWS, model.getSize())));
+            list.invalidate();
+        }
+
+        private void filterChanged() {
+            model.setFilter(filterField.getText());
+            if (model.getSize() > 0) {
+                list.setSelectedIndex(0);
+                list.ensureIndexIsVisible(0);
+            } else {
+                list.clearSelection();
+            }
+        }
+
+        private void moveSelection(int delta) {
+            int row = list.getSelectedIndex() + delta;
+            if ((row >= 0) && (row < model.getSize())) {
+                list.setSelectedIndex(row);
+                list.ensureIndexIsVisible(row);
+            }
+        }
+
+        private void selectTab(int row) {
+            int tab = model.getTabIndex(row);
+            if ((tab >= 0) && (tab < tabPane.getTabCount()) && tabPane.isEnabledAt(tab)) {
+                setVisible(false);
+                tabPane.setSelectedIndex(tab);
+            }
+        }
+
+    } // end of class TabListPopup
+
+    /**
+     * A list model over the tabs of the tabbed pane. The elements are the tab indices. Without a filter the rows
+     * are the tabs, with a filter only the indices of the matching tabs are kept.
+     */
+    private class TabListModel extends AbstractListModel {
+
+        private String filter = "";
+        private int tabIndices[] = null;
+
+        public int getSize() {
+            return (tabIndices == null) ? tabPane.getTabCount() : tabIndices.length;
+        }
+
+        public Object getElementAt(int row) {
+            return new Integer(getTabIndex(row));
+        }
+
+        int getTabIndex(int row) {
+            if ((row < 0) || (row >= getSize())) {
+                return -1;
+            }
+            return (tabIndices == null) ? row : tabIndices[row];
+        }
+
+        int indexOfTab(int tab) {
+            if (tabIndices == null) {
+                return tab;
+            }
+            for (int i = 0; i < tabIndices.length; i++) {
+                if (tabIndices[i] == tab) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void setFilter(String text) {
+            filter = (text == null) ? "" : text.trim().toLowerCase();
+            updateFilter();
+        }
+
+        void tabAdded(int tab) {
+            if (tabIndices == null) {
+                fireIntervalAdded(this, tab, tab);
+            } else {
+                updateFilter();
+            }
+        }
+
+        void tabRemoved(int tab) {
+            if (tabIndices == null) {
+                fireIntervalRemoved(this, tab, tab);
+            } else {
+                updateFilter();
+            }
+        }
+
+        void tabChanged(int tab) {
+            if (tabIndices == null) {
+                fireContentsChanged(this, tab, tab);
+            } else {
+                updateFilter();
+            }
+        }
+
+        private void updateFilter() {
+            int oldSize = getSize();
+            if (filter.length() == 0) {
+                tabIndices = null;
+            } else {
+                int count = 0;
+                int indices[] = new int[tabPane.getTabCount()];
+                for (int i = 0; i < indices.length; i++) {
+                    String title = tabPane.getTitleAt(i);
+                    if ((title != null) && (title.toLowerCase().indexOf(filter) >= 0)) {
+                        indices[count++] = i;
+                    }
+                }
+                tabIndices = new int[count];
+                System.arraycopy(indices, 0, tabIndices, 0, count);
+            }
+            int newSize = getSize();
+            if (newSize < oldSize) {
+                fireIntervalRemoved(this, newSize, oldSize - 1);
+            } else if (newSize > oldSize) {
+                fireIntervalAdded(this, oldSize, newSize - 1);
+            }
+            if (newSize > 0) {
+                fireContentsChanged(this, 0, newSize - 1);
+            }
+        }
+
+    } // end of class TabListModel
+
+    private class TabListCellRenderer extends DefaultListCellRenderer {
+
+        @Override
+        public Component getListCellRendererComponent(JList list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+            int tab = ((Integer) value).intValue();
+            boolean valid = (tab >= 0) && (tab < tabPane.getTabCount());
+            super.getListCellRendererComponent(list, valid ? tabPane.getTitleAt(tab) : "", index, isSelected, cellHasFocus);
+            setEnabled(valid && tabPane.isEnabledAt(tab));
+            return this;
+        }
+
+    } // end of class TabListCellRenderer
+
     private class ScrollablePopupMenuTabButton extends ArrowButton implements UIResource, SwingConstants {
 
         public ScrollablePopupMenuTabButton() {
@@ -3650,6 +3961,9 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
                     }
                 }
                 updateMnemonics();
+                if (tabListPopup != null) {
+                    tabListPopup.model.tabChanged(index);
+                }
             } else if ("tabLayoutPolicy".equals(name)) {
                 BaseTabbedPaneUI.this.uninstallUI(pane);
                 BaseTabbedPaneUI.this.installUI(pane);
@@ -3934,6 +4248,9 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
                 return;
             }
             int index = tp.indexOfComponent(child);
+            if (tabListPopup != null) {
+                tabListPopup.model.tabAdded(index);
+            }
             String title = tp.getTitleAt(index);
             boolean isHTML = BasicHTML.isHTMLString(title);
             if (isHTML) {
@@ -3972,6 +4289,9 @@ public class BaseTabbedPaneUI extends TabbedPaneUI implements SwingConstants {
                 if (htmlViews != null && htmlViews.size() >= indexObj) {
                     htmlViews.remove(indexObj);
                 }
+                if (tabListPopup != null) {
+                    tabListPopup.model.tabRemoved(indexObj.intValue());
+                }
             }
         }
     }
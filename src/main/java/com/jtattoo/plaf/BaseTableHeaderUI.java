@@ -267,6 +267,16 @@ public class BaseTableHeaderUI extends BasicTableHeaderUI {
         // Empty to avoid multiple paints
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        int token = PaintStatistics.start();
+        try {
+            super.update(g, c);
+        } finally {
+            PaintStatistics.stop(token, this, c);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         if ((header == null) || header.getColumnModel().getColumnCount() <= 0) {
@@ -384,24 +394,19 @@ public class BaseTableHeaderUI extends BasicTableHeaderUI {
 //----------------------------------------------------------------------------------------------------------------------
     private class BaseDefaultHeaderRenderer extends DefaultTableCellRenderer {
 
+        private JTable table = null;
+        private int col = 0;
+
         public BaseDefaultHeaderRenderer() {
             super();
+            setOpaque(false);
+            setHorizontalAlignment(JLabel.CENTER);
+            setHorizontalTextPosition(SwingConstants.LEADING);
         }
 
         @Override
-        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
-            return new MyRenderComponent(table, value, isSelected, hasFocus, row, column);
-        }
-        
-    } // end of class BaseDefaultHeaderRenderer
-
-    private class MyRenderComponent extends JLabel {
-
-        private JTable table = null;
-        private int col = 0;
-
-        public MyRenderComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int col) {
-            super();
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int col) {
+            // The renderer is reused for all cells, so every property which depends on the cell has to be set here
             this.table = table;
             this.col = col;
             if (value != null) {
@@ -409,7 +414,6 @@ public class BaseTableHeaderUI extends BasicTableHeaderUI {
             } else {
                 setText("");
             }
-            setOpaque(false);
             if (table != null && table.getClientProperty("TableHeader.font") != null) {
                 setFont((Font)table.getClientProperty("TableHeader.font"));
             } else {
@@ -420,9 +424,12 @@ public class BaseTableHeaderUI extends BasicTableHeaderUI {
             } else {
                 setForeground(UIManager.getColor("TableHeader.foreground"));
             }
-            setHorizontalAlignment(JLabel.CENTER);
-            setHorizontalTextPosition(SwingConstants.LEADING);
             setBorder(UIManager.getBorder("TableHeader.cellBorder"));
+            setIcon(getSortIcon(table, col));
+            return this;
+        }
+
+        private Icon getSortIcon(JTable table, int col) {
             if ((table != null) && (UIManager.getLookAndFeel() instanceof AbstractLookAndFeel)) {
                 RowSorter rowSorter = table.getRowSorter();
                 List keyList = rowSorter == null ? null : rowSorter.getSortKeys();
@@ -431,13 +438,14 @@ public class BaseTableHeaderUI extends BasicTableHeaderUI {
                     if (sortKey.getColumn() == table.convertColumnIndexToModel(col)) {
                         AbstractIconFactory iconFactory = ((AbstractLookAndFeel) UIManager.getLookAndFeel()).getIconFactory();
                         if (sortKey.getSortOrder().equals(SortOrder.ASCENDING)) {
-                            setIcon(iconFactory.getUpArrowIcon());
+                            return iconFactory.getUpArrowIcon();
                         } else if (sortKey.getSortOrder().equals(SortOrder.DESCENDING)) {
-                            setIcon(iconFactory.getDownArrowIcon());
+                            return iconFactory.getDownArrowIcon();
                         }
                     }
                 }
             }
+            return null;
         }
 
         protected void paintBackground(Graphics g) {
@@ -484,7 +492,7 @@ public class BaseTableHeaderUI extends BasicTableHeaderUI {
             paintBackground(g);
             super.paint(g);
         }
-        
-    } // end of class MyRenderComponent
-    
+
+    } // end of class BaseDefaultHeaderRenderer
+
 } // end of class BaseTableHeaderUI
@@ -29,9 +29,13 @@ package com.jtattoo.plaf;
 
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.List;
 import javax.swing.*;
 import javax.swing.plaf.UIResource;
 
@@ -89,6 +93,9 @@ public class BaseTitlePane extends JComponent implements TitlePane {
     
     protected BufferedImage backgroundImage = null;
     protected float alphaValue = 0.85f;
+    // Cached rendering of the title bar content
+    private Image titleImage = null;
+    private List titleImageKey = null;
 
     public BaseTitlePane(JRootPane root, BaseRootPaneUI ui) {
         rootPane = root;
@@ -109,6 +116,10 @@ public class BaseTitlePane extends JComponent implements TitlePane {
         if (window != null) {
             windowListener = createWindowListener();
             window.addWindowListener(windowListener);
+            // Frame.state isn't bound, so state changes are received by the window state listener
+            if (windowListener instanceof WindowStateListener) {
+                window.addWindowStateListener((WindowStateListener) windowListener);
+            }
             propertyChangeListener = createWindowPropertyChangeListener();
             window.addPropertyChangeListener(propertyChangeListener);
         }
@@ -117,6 +128,9 @@ public class BaseTitlePane extends JComponent implements TitlePane {
     protected void uninstallListeners() {
         if (window != null) {
             window.removeWindowListener(windowListener);
+            if (windowListener instanceof WindowStateListener) {
+                window.removeWindowStateListener((WindowStateListener) windowListener);
+            }
             window.removePropertyChangeListener(propertyChangeListener);
         }
     }
@@ -592,12 +606,67 @@ public class BaseTitlePane extends JComponent implements TitlePane {
         JTattooUtilities.drawString(rootPane, g, title, x, y);
     }
 
+    /**
+     * Paints the title bar content from a cached image. The image is painted again if one of the values which
+     * affect the title bar (size, title, icon, active state, frame state, layout or theme) changes.
+     */
     @Override
     public void paintComponent(Graphics g) {
-        if (getFrame() != null) {
-            setState(getFrame().getExtendedState());
+        int token = PaintStatistics.start();
+        try {
+            paintCachedTitle(g);
+        } finally {
+            PaintStatistics.stop(token, this, this);
         }
+    }
 
+    private void paintCachedTitle(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (!(g instanceof Graphics2D) || (width <= 0) || (height <= 0)
+                || ((((Graphics2D) g).getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) != 0)) {
+            paintTitle(g);
+            return;
+        }
+        Image icon = (window == null) ? null : getFrameIconImage();
+        if ((icon != null) && ((Toolkit.getDefaultToolkit().checkImage(icon, -1, -1, null) & ImageObserver.ALLBITS) == 0)) {
+            // The icon is still loading, don't keep a title image with a missing or partial icon
+            paintTitle(g);
+            return;
+        }
+        List key = Arrays.asList(new Object[]{
+            new Integer(width),
+            new Integer(height),
+            getTitle(),
+            icon,
+            Boolean.valueOf(isActive()),
+            Boolean.valueOf(isLeftToRight()),
+            new Integer(state),
+            new Integer(buttonsWidth),
+            new Integer(menuBar == null ? 0 : menuBar.getWidth()),
+            getFont(),
+            backgroundImage,
+            new Float(alphaValue),
+            new Integer(AbstractLookAndFeel.getThemeVersion())
+        });
+        if ((titleImage == null) || !key.equals(titleImageKey)) {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            if (gc != null) {
+                titleImage = gc.createCompatibleImage(width, height, Transparency.OPAQUE);
+            } else {
+                titleImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+            Graphics2D ig2D = (Graphics2D) titleImage.getGraphics();
+            ig2D.setRenderingHints(((Graphics2D) g).getRenderingHints());
+            ig2D.setClip(0, 0, width, height);
+            paintTitle(ig2D);
+            ig2D.dispose();
+            titleImageKey = key;
+        }
+        g.drawImage(titleImage, 0, 0, null);
+    }
+
+    protected void paintTitle(Graphics g) {
         paintBackground(g);
 
         g.setFont(getFont());
@@ -613,7 +682,7 @@ public class BaseTitlePane extends JComponent implements TitlePane {
                 int iconWidth = getIconWidth();
                 titleWidth -= iconWidth + 4;
                 frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                int titleLength = fm.stringWidth(frameTitle);
+                int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                 x += buttonsWidth + ((titleWidth - titleLength) / 2);
                 paintIcon(g, x);
                 x += iconWidth + 4;
@@ -623,7 +692,7 @@ public class BaseTitlePane extends JComponent implements TitlePane {
                     titleWidth -= iconWidth + 4;
                     frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
                     if (AbstractLookAndFeel.getTheme().isCenterWindowTitleOn()) {
-                        int titleLength = fm.stringWidth(frameTitle);
+                        int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                         x += iconWidth + 4;
                         x += (titleWidth - titleLength) / 2;
                     } else {
@@ -634,7 +703,7 @@ public class BaseTitlePane extends JComponent implements TitlePane {
                     titleWidth -= menuBarWidth + 4;
                     frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
                     if (AbstractLookAndFeel.getTheme().isCenterWindowTitleOn()) {
-                        int titleLength = fm.stringWidth(frameTitle);
+                        int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                         x += menuBarWidth + 4;
                         x += (titleWidth - titleLength) / 2;
                     } else {
@@ -647,7 +716,7 @@ public class BaseTitlePane extends JComponent implements TitlePane {
             if (isMacStyleWindowDecoration()) {
                 titleWidth -= iconWidth + 4;
                 frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                int titleLength = fm.stringWidth(frameTitle);
+                int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                 x = buttonsWidth + 4 + ((titleWidth - titleLength) / 2);
                 paintIcon(g, x + titleLength + 4);
             } else {
@@ -656,7 +725,7 @@ public class BaseTitlePane extends JComponent implements TitlePane {
                     paintIcon(g, x);
                     titleWidth -= iconWidth + 4;
                     frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                    int titleLength = fm.stringWidth(frameTitle);
+                    int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                     if (AbstractLookAndFeel.getTheme().isCenterWindowTitleOn()) {
                         x = buttonsWidth + 4 + ((titleWidth - titleLength) / 2);
                     } else {
@@ -666,7 +735,7 @@ public class BaseTitlePane extends JComponent implements TitlePane {
                     int menuBarWidth = menuBar == null ? 0 : menuBar.getWidth();
                     titleWidth -= menuBarWidth + 4;
                     frameTitle = JTattooUtilities.getClippedText(frameTitle, fm, titleWidth);
-                    int titleLength = fm.stringWidth(frameTitle);
+                    int titleLength = TextWidthCache.getStringWidth(fm, frameTitle);
                     if (AbstractLookAndFeel.getTheme().isCenterWindowTitleOn()) {
                         x = buttonsWidth + 4 + ((titleWidth - titleLength) / 2);
                     } else {
@@ -1014,6 +1083,13 @@ public class BaseTitlePane extends JComponent implements TitlePane {
             }
         }
         
+        @Override
+        public void windowStateChanged(WindowEvent ev) {
+            if (getFrame() != null) {
+                setState(getFrame().getExtendedState());
+            }
+        }
+
         @Override
         public void windowActivated(WindowEvent ev) {
             setActive(true);
@@ -85,17 +85,17 @@ public class BaseToggleButtonUI extends BasicToggleButtonUI {
                 }
             } else {
                 if (model.isPressed() && model.isArmed()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
                 } else if (b.isRolloverEnabled() && model.isRollover()) {
                     if (model.isSelected()) {
-                        colors = ColorHelper.createColorArr(ColorHelper.darker(background, 20), background, 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 20), background, 20);
                     } else {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
                     }
                 } else if (model.isSelected()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 40), ColorHelper.darker(background, 20), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 40), ColorHelper.darker(background, 20), 20);
                 } else {
-                    colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
                 }
             }
         } else { // disabled
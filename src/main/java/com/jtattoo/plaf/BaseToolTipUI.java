@@ -27,6 +27,7 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.metal.MetalToolTipUI;
@@ -36,6 +37,13 @@ import javax.swing.plaf.metal.MetalToolTipUI;
  */
 public class BaseToolTipUI extends MetalToolTipUI {
 
+    private static final float[] SHADOW_COMPOSITES = {0.01f, 0.02f, 0.04f, 0.06f, 0.08f, 0.12f};
+    private static final int SHADOW_ARC = 12;
+    private static final int MAX_TEXT_BUFFER_SIZE = 512 * 512;
+    private static final HashMap shadowImageMap = new HashMap();
+    // Offscreen buffer for the text of the fancy layout, tooltips are painted on the event dispatch thread only
+    private static BufferedImage textBuffer = null;
+
     private boolean fancyLayout = false;
     private ComponentListener popupWindowListener = null;
 
@@ -117,14 +125,8 @@ public class BaseToolTipUI extends MetalToolTipUI {
                 parent = parent.getParent();
             }
             // draw the shadow
-            g2D.setColor(AbstractLookAndFeel.getTheme().getShadowColor());
-            float[] composites = {0.01f, 0.02f, 0.04f, 0.06f, 0.08f, 0.12f};
             int shadowOffset = AbstractLookAndFeel.getTheme().isTooltipCastShadow() ? shadowSize : 0;
-            for (int i = 0; i < shadowSize; i++) {
-                g2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, composites[i >= composites.length ? composites.length - 1 : i]));
-                g2D.fillRoundRect(i + shadowOffset, borderSize + i, w - (2 * i) - shadowOffset, h - borderSize - (2 * i), 12 - i, 12 - i);
-
-            }
+            paintShadow(g2D, shadowOffset, borderSize, w - shadowOffset, h - borderSize, shadowSize);
             g2D.setComposite(savedComposit);
 
             // Draw background with borders
@@ -146,7 +148,7 @@ public class BaseToolTipUI extends MetalToolTipUI {
             // Draw the text. This must be done within an offscreen image because of a bug
             // in the jdk, wich causes ugly antialiased font rendering when background is
             // transparent and popup is heavy weight.
-            BufferedImage bi = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            BufferedImage bi = getTextBuffer(w, h);
             Graphics2D big = bi.createGraphics();
             big.setClip(0, 0, w, h);
             Paint savedPaint = big.getPaint();
@@ -175,6 +177,7 @@ public class BaseToolTipUI extends MetalToolTipUI {
             super.paint(big, c);
             g2D.setClip(borderSize + shadowSize, borderSize, w - (2 * borderSize) - (2 * shadowSize), h - (2 * borderSize) - shadowSize);
             g2D.drawImage(bi, 0, 0, null);
+            big.dispose();
 
         } else {
             // Draw background with borders
@@ -208,4 +211,81 @@ public class BaseToolTipUI extends MetalToolTipUI {
         }
     }
     
+    private static void paintShadow(Graphics2D g2D, int x, int y, int w, int h, int shadowSize) {
+        Color shadowColor = AbstractLookAndFeel.getTheme().getShadowColor();
+        int corner = getShadowCornerSize(shadowSize);
+        if ((w < (2 * corner) + 1) || (h < (2 * corner) + 1)) {
+            paintShadowLayers(g2D, shadowColor, x, y, w, h, shadowSize);
+            return;
+        }
+
+        // Use a nine slice image of the shadow, the corners are copied and the middle row and column are stretched
+        BufferedImage shadow = getShadowImage(shadowColor, shadowSize);
+        int size = shadow.getWidth();
+        int x1 = x + corner;
+        int x2 = x + w - corner;
+        int y1 = y + corner;
+        int y2 = y + h - corner;
+        int sx = size - corner;
+        g2D.drawImage(shadow, x, y, x1, y1, 0, 0, corner, corner, null);
+        g2D.drawImage(shadow, x1, y, x2, y1, corner, 0, sx, corner, null);
+        g2D.drawImage(shadow, x2, y, x + w, y1, sx, 0, size, corner, null);
+        g2D.drawImage(shadow, x, y1, x1, y2, 0, corner, corner, sx, null);
+        g2D.drawImage(shadow, x1, y1, x2, y2, corner, corner, sx, sx, null);
+        g2D.drawImage(shadow, x2, y1, x + w, y2, sx, corner, size, sx, null);
+        g2D.drawImage(shadow, x, y2, x1, y + h, 0, sx, corner, size, null);
+        g2D.drawImage(shadow, x1, y2, x2, y + h, corner, sx, sx, size, null);
+        g2D.drawImage(shadow, x2, y2, x + w, y + h, sx, sx, size, size, null);
+    }
+
+    private static void paintShadowLayers(Graphics2D g2D, Color shadowColor, int x, int y, int w, int h, int shadowSize) {
+        Composite savedComposit = g2D.getComposite();
+        g2D.setColor(shadowColor);
+        for (int i = 0; i < shadowSize; i++) {
+            g2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, SHADOW_COMPOSITES[i >= SHADOW_COMPOSITES.length ? SHADOW_COMPOSITES.length - 1 : i]));
+            g2D.fillRoundRect(x + i, y + i, w - (2 * i), h - (2 * i), SHADOW_ARC - i, SHADOW_ARC - i);
+        }
+        g2D.setComposite(savedComposit);
+    }
+
+    private static int getShadowCornerSize(int shadowSize) {
+        // The size of the area which is affected by the rounded corners of the shadow layers plus one pixel
+        // for antialiasing
+        int corner = 0;
+        for (int i = 0; i < shadowSize; i++) {
+            corner = Math.max(corner, i + ((Math.max(0, SHADOW_ARC - i) + 1) / 2));
+        }
+        return corner + 1;
+    }
+
+    private static synchronized BufferedImage getShadowImage(Color shadowColor, int shadowSize) {
+        Long key = new Long(((long) shadowColor.getRGB() << 32) | ((long) shadowSize << 8) | SHADOW_ARC);
+        BufferedImage shadow = (BufferedImage) shadowImageMap.get(key);
+        if (shadow == null) {
+            if (shadowImageMap.size() >= 8) {
+                shadowImageMap.clear();
+            }
+            int size = (2 * getShadowCornerSize(shadowSize)) + 1;
+            shadow = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2D = shadow.createGraphics();
+            g2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintShadowLayers(g2D, shadowColor, 0, 0, size, size, shadowSize);
+            g2D.dispose();
+            shadowImageMap.put(key, shadow);
+        }
+        return shadow;
+    }
+
+    private static BufferedImage getTextBuffer(int w, int h) {
+        if ((w * h) > MAX_TEXT_BUFFER_SIZE) {
+            return new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        }
+        if ((textBuffer == null) || (textBuffer.getWidth() < w) || (textBuffer.getHeight() < h)) {
+            int bw = Math.max(w, (textBuffer == null) ? 0 : textBuffer.getWidth());
+            int bh = Math.max(h, (textBuffer == null) ? 0 : textBuffer.getHeight());
+            textBuffer = new BufferedImage(bw, bh, BufferedImage.TYPE_INT_RGB);
+        }
+        return textBuffer;
+    }
+
 } // end of class BaseToolTipUI
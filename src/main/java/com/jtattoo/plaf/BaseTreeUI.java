@@ -23,7 +23,9 @@
 
 package com.jtattoo.plaf;
 
-import java.awt.Graphics;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import javax.swing.JComponent;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicTreeUI;
@@ -33,18 +35,101 @@ import javax.swing.plaf.basic.BasicTreeUI;
  */
 public class BaseTreeUI extends BasicTreeUI {
 
+    private Color dashColor = null;
+    private TexturePaint verticalDashPaint = null;
+    private TexturePaint horizontalDashPaint = null;
+
     public static ComponentUI createUI(JComponent c) {
         return new BaseTreeUI();
     }
 
     @Override
     protected void paintVerticalLine(Graphics g, JComponent c, int x, int top, int bottom) {
-        drawDashedVerticalLine(g, x, top, bottom);
+        if (!canFillDashedLine(g)) {
+            drawDashedVerticalLine(g, x, top, bottom);
+            return;
+        }
+        // The dots lie on the even coordinates, like in drawDashedVerticalLine of BasicTreeUI
+        top += (top % 2);
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            if ((x < clip.x) || (x >= clip.x + clip.width)) {
+                return;
+            }
+            top = Math.max(top, clip.y);
+            bottom = Math.min(bottom, clip.y + clip.height - 1);
+        }
+        if (top <= bottom) {
+            fillDashedLine(g, true, x, top, 1, bottom - top + 1);
+        }
     }
 
     @Override
     protected void paintHorizontalLine(Graphics g, JComponent c, int y, int left, int right) {
-        drawDashedHorizontalLine(g, y, left, right);
+        if (!canFillDashedLine(g)) {
+            drawDashedHorizontalLine(g, y, left, right);
+            return;
+        }
+        left += (left % 2);
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            if ((y < clip.y) || (y >= clip.y + clip.height)) {
+                return;
+            }
+            left = Math.max(left, clip.x);
+            right = Math.min(right, clip.x + clip.width - 1);
+        }
+        if (left <= right) {
+            fillDashedLine(g, false, left, y, right - left + 1, 1);
+        }
+    }
+
+    /**
+     * The dashed lines are filled with a texture of one dot and one gap in a single call, instead of one call per
+     * dot. This is only done if the graphics context is translated by whole pixels, so the dots keep their
+     * positions on the screen.
+     */
+    private static boolean canFillDashedLine(Graphics g) {
+        if (!(g instanceof Graphics2D)) {
+            return false;
+        }
+        AffineTransform at = ((Graphics2D) g).getTransform();
+        return ((at.getType() & ~AffineTransform.TYPE_TRANSLATION) == 0)
+                && (at.getTranslateX() == Math.rint(at.getTranslateX()))
+                && (at.getTranslateY() == Math.rint(at.getTranslateY()));
+    }
+
+    private void fillDashedLine(Graphics g, boolean vertical, int x, int y, int w, int h) {
+        Graphics2D g2D = (Graphics2D) g;
+        Paint savedPaint = g2D.getPaint();
+        g2D.setPaint(getDashPaint(g2D.getColor(), vertical));
+        g2D.fillRect(x, y, w, h);
+        g2D.setPaint(savedPaint);
+    }
+
+    private TexturePaint getDashPaint(Color color, boolean vertical) {
+        if (!color.equals(dashColor)) {
+            dashColor = color;
+            verticalDashPaint = null;
+            horizontalDashPaint = null;
+        }
+        if (vertical) {
+            if (verticalDashPaint == null) {
+                verticalDashPaint = createDashPaint(color, 1, 2);
+            }
+            return verticalDashPaint;
+        }
+        if (horizontalDashPaint == null) {
+            horizontalDashPaint = createDashPaint(color, 2, 1);
+        }
+        return horizontalDashPaint;
+    }
+
+    private static TexturePaint createDashPaint(Color color, int w, int h) {
+        // The dot lies on the even coordinates, the gap on the odd ones
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, color.getRGB());
+        return new TexturePaint(image, new Rectangle(0, 0, w, h));
     }
     
 } // end of class BaseTreeUI
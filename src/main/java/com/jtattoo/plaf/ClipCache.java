@@ -0,0 +1,109 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.plaf;
+
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Intersects the shapes used to clip the background of buttons with the clip of the graphics context. In the
+ * common case the clip contains the whole shape and the shape is returned as is. Intersections with a partial
+ * rectangular clip are kept in a small cache, so repainting a part of a button (e.g. on rollover) doesn't build
+ * new areas on every paint.
+ */
+public class ClipCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private static final Map cache = new LinkedHashMap(64, 0.75f, true) {
+
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private ClipCache() {
+    }
+
+    /**
+     * Returns the intersection of the shape and the clip. The shape must implement <code>equals</code> and
+     * <code>hashCode</code> by value, like the shapes in <code>java.awt.geom</code>. The returned shape may be
+     * shared and must not be modified.
+     *
+     * @param shape the shape to clip with
+     * @param clip the current clip of the graphics context, may be null
+     * @return the intersection of both
+     */
+    public static Shape getClip(Shape shape, Shape clip) {
+        if ((clip == null) || ((clip instanceof Rectangle2D) && ((Rectangle2D) clip).contains(shape.getBounds2D()))) {
+            return shape;
+        }
+        if (!(clip instanceof Rectangle2D)) {
+            Area clipArea = new Area(shape);
+            clipArea.intersect(new Area(clip));
+            return clipArea;
+        }
+        CacheKey key = new CacheKey(shape, (Rectangle2D) clip);
+        synchronized (cache) {
+            Area clipArea = (Area) cache.get(key);
+            if (clipArea == null) {
+                clipArea = new Area(shape);
+                clipArea.intersect(new Area(clip));
+                cache.put(key, clipArea);
+            }
+            return clipArea;
+        }
+    }
+
+//-----------------------------------------------------------------------------------------------
+    private static class CacheKey {
+
+        private final Shape shape;
+        private final Rectangle2D clip;
+
+        public CacheKey(Shape shape, Rectangle2D clip) {
+            this.shape = shape;
+            this.clip = new Rectangle2D.Double(clip.getX(), clip.getY(), clip.getWidth(), clip.getHeight());
+        }
+
+        public int hashCode() {
+            return (shape.hashCode() * 31) + clip.hashCode();
+        }
+
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return shape.equals(other.shape) && clip.equals(other.clip);
+        }
+
+    } // end of class CacheKey
+
+} // end of class ClipCache
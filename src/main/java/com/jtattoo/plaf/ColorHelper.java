@@ -32,6 +32,17 @@ import java.awt.Color;
  */
 public class ColorHelper {
 
+    private static final int BRIGHTER = 1;
+    private static final int DARKER = 2;
+    private static final int MEDIAN = 3;
+
+    // Size of the derived color cache, must be a power of two
+    private static final int CACHE_SIZE = 1024;
+    private static final ColorEntry[] colorCache = new ColorEntry[CACHE_SIZE];
+    // Size of the gradient cache, must be a power of two
+    private static final int COLOR_ARR_CACHE_SIZE = 256;
+    private static final ColorArrEntry[] colorArrCache = new ColorArrEntry[COLOR_ARR_CACHE_SIZE];
+
     /**
      * Avoid creation of this class. This class only contains static helper methods, so creation of an object
      * is not necessary.
@@ -85,6 +96,34 @@ public class ColorHelper {
         return colors;
     }
 
+    /**
+     * Returns a shared array of color values with the same content as createColorArr would create. The arrays are
+     * cached by the start color, the end color and the count of steps, so components which paint their gradients
+     * from custom colors don't create new arrays on every paint. The returned array must not be modified.
+     * 
+     * @param c1 the starting color
+     * @param c2 the ending color
+     * @param steps the number of steps between c1 and c2 (the size of the array)
+     * 
+     * @return the shared array of color values
+     */
+    public static Color[] getSharedColorArr(Color c1, Color c2, int steps) {
+        if (c1 == null || c2 == null) {
+            return null;
+        }
+        int rgb1 = c1.getRGB();
+        int rgb2 = c2.getRGB();
+        long key = ((long) rgb1 << 32) | (rgb2 & 0xFFFFFFFFL);
+        int index = (hash(key) + steps) & (COLOR_ARR_CACHE_SIZE - 1);
+        ColorArrEntry entry = colorArrCache[index];
+        if ((entry != null) && (entry.key == key) && (entry.colors.length == steps)) {
+            return entry.colors;
+        }
+        Color colors[] = createColorArr(c1, c2, steps);
+        colorArrCache[index] = new ColorArrEntry(key, colors);
+        return colors;
+    }
+
     /**
      * Creates a color that is the brighter version of the color parameter c. 
      * 
@@ -96,10 +135,20 @@ public class ColorHelper {
         if (c == null) {
             return null;
         }
-        
-        double r = c.getRed();
-        double g = c.getGreen();
-        double b = c.getBlue();
+        return getDerivedColor(BRIGHTER, c.getRGB(), 0, p);
+    }
+
+    /**
+     * Calculates the brighter version of the color value rgb without creating a color object.
+     * 
+     * @param rgb the color value in the default RGB color model
+     * @param p the factor of the brightness in percent from 0 to 100
+     * @return the brighter color value in the default RGB color model (the alpha value is always 255)
+     */
+    public static int brighter(int rgb, double p) {
+        double r = (rgb >> 16) & 0xFF;
+        double g = (rgb >> 8) & 0xFF;
+        double b = rgb & 0xFF;
 
         double rd = 255.0 - r;
         double gd = 255.0 - g;
@@ -108,7 +157,7 @@ public class ColorHelper {
         r += (rd * p) / 100.0;
         g += (gd * p) / 100.0;
         b += (bd * p) / 100.0;
-        return createColor((int) r, (int) g, (int) b);
+        return toRGB((int) r, (int) g, (int) b);
     }
 
     /**
@@ -123,16 +172,25 @@ public class ColorHelper {
         if (c == null) {
             return null;
         }
+        return getDerivedColor(DARKER, c.getRGB(), 0, p);
+    }
 
-        double r = c.getRed();
-        double g = c.getGreen();
-        double b = c.getBlue();
+    /**
+     * Calculates the darker version of the color value rgb without creating a color object.
+     * 
+     * @param rgb the color value in the default RGB color model
+     * @param p the factor to shade the color in percent from 0 to 100
+     * @return the darker color value in the default RGB color model (the alpha value is always 255)
+     */
+    public static int darker(int rgb, double p) {
+        double r = (rgb >> 16) & 0xFF;
+        double g = (rgb >> 8) & 0xFF;
+        double b = rgb & 0xFF;
 
         r -= (r * p) / 100.0;
         g -= (g * p) / 100.0;
         b -= (b * p) / 100.0;
-
-        return createColor((int) r, (int) g, (int) b);
+        return toRGB((int) r, (int) g, (int) b);
     }
 
     /**
@@ -147,11 +205,70 @@ public class ColorHelper {
         if ((c1 == null || c2 == null)) {
             return null;
         }
+        return getDerivedColor(MEDIAN, c1.getRGB(), c2.getRGB(), 0);
+    }
+
+    /**
+     * Calculates the median of the color values rgb1 and rgb2 without creating a color object.
+     * 
+     * @param rgb1 the first color value in the default RGB color model
+     * @param rgb2 the second color value in the default RGB color model
+     * 
+     * @return the median color value in the default RGB color model (the alpha value is always 255)
+     */
+    public static int median(int rgb1, int rgb2) {
+        int r = (((rgb1 >> 16) & 0xFF) + ((rgb2 >> 16) & 0xFF)) / 2;
+        int g = (((rgb1 >> 8) & 0xFF) + ((rgb2 >> 8) & 0xFF)) / 2;
+        int b = ((rgb1 & 0xFF) + (rgb2 & 0xFF)) / 2;
+        return toRGB(r, g, b);
+    }
+
+    private static int toRGB(int r, int g, int b) {
+        return 0xFF000000 | ((r & 0xFF) << 16) | ((g & 0xFF) << 8) | (b & 0xFF);
+    }
+
+    /**
+     * Returns the cached result of a color operation. The cache is a fixed size table where each slot holds one
+     * immutable entry. Concurrent updates may overwrite each other which only causes a later cache miss, so no
+     * locking is needed.
+     */
+    private static Color getDerivedColor(int op, int rgb1, int rgb2, double p) {
+        int percent = (int) p;
+        if ((percent != p) || (percent < 0) || (percent > 0xFF)) {
+            // Only integral percentages are cached
+            return new Color(calcDerivedColor(op, rgb1, rgb2, p));
+        }
+        long key;
+        if (op == MEDIAN) {
+            key = ((long) op << 56) | ((long) (rgb1 & 0xFFFFFF) << 24) | (rgb2 & 0xFFFFFF);
+        } else {
+            key = ((long) op << 56) | ((long) percent << 24) | (rgb1 & 0xFFFFFF);
+        }
+        int index = hash(key) & (CACHE_SIZE - 1);
+        ColorEntry entry = colorCache[index];
+        if ((entry != null) && (entry.key == key)) {
+            return entry.color;
+        }
+        Color color = new Color(calcDerivedColor(op, rgb1, rgb2, p));
+        colorCache[index] = new ColorEntry(key, color);
+        return color;
+    }
+
+    private static int calcDerivedColor(int op, int rgb1, int rgb2, double p) {
+        switch (op) {
+            case BRIGHTER:
+                return brighter(rgb1, p);
+            case DARKER:
+                return darker(rgb1, p);
+            default:
+                return median(rgb1, rgb2);
+        }
+    }
 
-        int r = (c1.getRed() + c2.getRed()) / 2;
-        int g = (c1.getGreen() + c2.getGreen()) / 2;
-        int b = (c1.getBlue() + c2.getBlue()) / 2;
-        return createColor(r, g, b);
+    private static int hash(long key) {
+        int h = (int) (key ^ (key >>> 32));
+        h ^= (h >>> 20) ^ (h >>> 12);
+        return h ^ (h >>> 7) ^ (h >>> 4);
     }
 
     /**
@@ -203,4 +320,31 @@ public class ColorHelper {
         return new Color(gray, gray, gray, c.getAlpha());
     }
     
+//------------------------------------------------------------------------------------------------------------------
+// inner classes
+//------------------------------------------------------------------------------------------------------------------
+    private static final class ColorEntry {
+
+        private final long key;
+        private final Color color;
+
+        private ColorEntry(long key, Color color) {
+            this.key = key;
+            this.color = color;
+        }
+
+    } // end of class ColorEntry
+
+    private static final class ColorArrEntry {
+
+        private final long key;
+        private final Color[] colors;
+
+        private ColorArrEntry(long key, Color[] colors) {
+            this.key = key;
+            this.colors = colors;
+        }
+
+    } // end of class ColorArrEntry
+
 } // end of class ColorHelper
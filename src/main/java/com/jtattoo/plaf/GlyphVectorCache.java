@@ -0,0 +1,135 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.plaf;
+
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.PrintGraphics;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.print.PrinterGraphics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache for the glyph vectors of painted strings. The glyph vectors are kept per text, font and font
+ * render context (which holds the transform and the anti aliasing mode), so labels which are painted more than
+ * once per paint, e.g. with a text shadow, or repainted often are laid out only once.
+ */
+public class GlyphVectorCache {
+
+    private static final int MAX_ENTRIES = 512;
+    private static final int MAX_TEXT_LENGTH = 256;
+
+    private static final Map cache = new LinkedHashMap(128, 0.75f, true) {
+
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private GlyphVectorCache() {
+    }
+
+    /**
+     * Draws the text with the current font of the graphics context from a cached glyph vector. Texts which need a
+     * complex layout (e.g. right to left or combining characters), fonts with layout attributes (e.g. kerning, ligatures
+     * or underline) and painting to a printer are not handled.
+     *
+     * @param g the graphics context
+     * @param text the text to draw
+     * @param x the x coordinate of the baseline
+     * @param y the y coordinate of the baseline
+     * @return true if the text was drawn, false if the caller has to draw it
+     */
+    public static boolean drawString(Graphics g, String text, int x, int y) {
+        if (!(g instanceof Graphics2D) || (g instanceof PrintGraphics) || (g instanceof PrinterGraphics)
+                || (text == null) || (text.length() == 0) || (text.length() > MAX_TEXT_LENGTH) || !isSimpleText(text)) {
+            return false;
+        }
+        Graphics2D g2D = (Graphics2D) g;
+        Font font = g2D.getFont();
+        if ((font == null) || font.hasLayoutAttributes()) {
+            return false;
+        }
+        FontRenderContext frc = g2D.getFontRenderContext();
+        CacheKey key = new CacheKey(text, font, frc);
+        GlyphVector glyphs;
+        synchronized (cache) {
+            glyphs = (GlyphVector) cache.get(key);
+        }
+        if (glyphs == null) {
+            glyphs = font.createGlyphVector(frc, text);
+            synchronized (cache) {
+                cache.put(key, glyphs);
+            }
+        }
+        g2D.drawGlyphVector(glyphs, x, y);
+        return true;
+    }
+
+    private static boolean isSimpleText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            // Combining marks, right to left and complex scripts start at 0x0300
+            if (ch >= 0x0300) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+//-----------------------------------------------------------------------------------------------
+    private static class CacheKey {
+
+        private final String text;
+        private final Font font;
+        private final FontRenderContext frc;
+        private final int hash;
+
+        public CacheKey(String text, Font font, FontRenderContext frc) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.hash = (((text.hashCode() * 31) + font.hashCode()) * 31) + frc.hashCode();
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return (hash == other.hash) && text.equals(other.text) && font.equals(other.font) && frc.equals(other.frc);
+        }
+
+    } // end of class CacheKey
+
+} // end of class GlyphVectorCache
@@ -0,0 +1,148 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+package com.jtattoo.plaf;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache for gradient strips. Each gradient is rendered once into a one pixel wide (or high) image which will then
+ * be stretched to the requested size with a single drawImage call. The strips are keyed by the identity of the color
+ * array, so they will be released as soon as the color array itself is garbage collected.
+ */
+public class GradientCache {
+
+    public static final int HOR_GRADIENT = 0;
+    public static final int SMOOTH_HOR_GRADIENT = 1;
+    public static final int VER_GRADIENT = 2;
+
+    // Gradients larger than this size are painted directly and not cached
+    private static final int MAX_SIZE = 2048;
+    // Maximum number of strips cached for one color array
+    private static final int MAX_ENTRIES = 32;
+
+    private static final Map stripMap = new WeakHashMap();
+
+    private GradientCache() {
+    }
+
+    /**
+     * Fills the given area with a cached gradient strip.
+     *
+     * @param g the graphics context
+     * @param colors the gradient colors
+     * @param style one of HOR_GRADIENT, SMOOTH_HOR_GRADIENT or VER_GRADIENT
+     * @param inverse true if the colors should be painted in reverse order
+     * @param x the x coordinate of the area
+     * @param y the y coordinate of the area
+     * @param w the width of the area
+     * @param h the height of the area
+     *
+     * @return true if the gradient has been painted, false if the caller has to paint it by itself
+     */
+    public static boolean fillGradient(Graphics g, Color[] colors, int style, boolean inverse, int x, int y, int w, int h) {
+        if ((w <= 0) || (h <= 0)) {
+            return true;
+        }
+        int size = (style == VER_GRADIENT) ? w : h;
+        Image strip = getStrip(g, colors, style, inverse, size);
+        if (strip == null) {
+            return false;
+        }
+        g.drawImage(strip, x, y, w, h, null);
+        return true;
+    }
+
+    private static synchronized Image getStrip(Graphics g, Color[] colors, int style, boolean inverse, int size) {
+        if ((colors == null) || (colors.length < 2) || (size > MAX_SIZE) || !(g instanceof Graphics2D)) {
+            return null;
+        }
+        Map strips = (Map) stripMap.get(colors);
+        if (strips == null) {
+            strips = new HashMap();
+            stripMap.put(colors, strips);
+        }
+        Integer key = new Integer((size << 3) | (style << 1) | (inverse ? 1 : 0));
+        Image strip = (Image) strips.get(key);
+        if (strip == null) {
+            if (strips.size() >= MAX_ENTRIES) {
+                strips.clear();
+            }
+            strip = createStrip((Graphics2D) g, colors, style, inverse, size);
+            strips.put(key, strip);
+        }
+        return strip;
+    }
+
+    private static Image createStrip(Graphics2D g2D, Color[] colors, int style, boolean inverse, int size) {
+        int transparency = Transparency.OPAQUE;
+        for (int i = 0; i < colors.length; i++) {
+            if ((colors[i] != null) && (colors[i].getAlpha() != 255)) {
+                transparency = Transparency.TRANSLUCENT;
+                break;
+            }
+        }
+        int w = (style == VER_GRADIENT) ? size : 1;
+        int h = (style == VER_GRADIENT) ? 1 : size;
+        BufferedImage strip = null;
+        GraphicsConfiguration gc = g2D.getDeviceConfiguration();
+        if ((gc != null) && (gc.getDevice().getType() != GraphicsDevice.TYPE_PRINTER)) {
+            strip = gc.createCompatibleImage(w, h, transparency);
+        }
+        if (strip == null) {
+            strip = new BufferedImage(w, h, (transparency == Transparency.OPAQUE) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D stripGraphics = strip.createGraphics();
+        switch (style) {
+            case HOR_GRADIENT:
+                if (inverse) {
+                    JTattooUtilities.paintInverseHorGradient(stripGraphics, colors, 0, 0, w, h);
+                } else {
+                    JTattooUtilities.paintHorGradient(stripGraphics, colors, 0, 0, w, h);
+                }
+                break;
+            case SMOOTH_HOR_GRADIENT:
+                if (inverse) {
+                    JTattooUtilities.paintSmoothInverseHorGradient(stripGraphics, colors, 0, 0, w, h);
+                } else {
+                    JTattooUtilities.paintSmoothHorGradient(stripGraphics, colors, 0, 0, w, h);
+                }
+                break;
+            default:
+                if (inverse) {
+                    JTattooUtilities.paintInverseVerGradient(stripGraphics, colors, 0, 0, w, h);
+                } else {
+                    JTattooUtilities.paintVerGradient(stripGraphics, colors, 0, 0, w, h);
+                }
+                break;
+        }
+        stripGraphics.dispose();
+        return strip;
+    }
+
+} // end of class GradientCache
@@ -0,0 +1,131 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+package com.jtattoo.plaf;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache for painted icons. Each state of an icon is painted once into an image which is then copied on every
+ * following paint. The images are kept per icon, state, size and scaling of the graphics context and are cleared
+ * when the theme changes.
+ */
+public class IconImageCache {
+
+    // Additional space around the icon for borders which are painted outside of the icon bounds
+    private static final int MARGIN = 2;
+    private static final int MAX_SIZE = 256;
+    private static final double MAX_SCALE = 8.0;
+    private static final int MAX_IMAGES_PER_ICON = 64;
+    private static final Map iconMap = new WeakHashMap();
+    private static int themeVersion = -1;
+
+    private IconImageCache() {
+    }
+
+    /**
+     * Paints the cached image of the icon state. The icon is painted into the image if it is not cached yet. The
+     * image of an icon must only depend on the state, the size and the theme, not on the position.
+     *
+     * @param painter the icon
+     * @param state the state of the icon, only the lower 16 bits are used
+     * @param c the component the icon is painted for
+     * @param g the graphics context
+     * @param x the x position of the icon
+     * @param y the y position of the icon
+     * @param w the width of the icon
+     * @param h the height of the icon
+     * @return false if the icon has not been painted and must be painted directly
+     */
+    public static synchronized boolean paintIcon(IconPainter painter, int state, Component c, Graphics g, int x, int y, int w, int h) {
+        if (!(g instanceof Graphics2D) || (w <= 0) || (h <= 0) || (w > MAX_SIZE) || (h > MAX_SIZE)) {
+            return false;
+        }
+        Graphics2D g2D = (Graphics2D) g;
+        AffineTransform savedTransform = g2D.getTransform();
+        if ((savedTransform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0) {
+            return false;
+        }
+        double sx = savedTransform.getScaleX();
+        double sy = savedTransform.getScaleY();
+        if ((sx <= 0.0) || (sy <= 0.0) || (sx > MAX_SCALE) || (sy > MAX_SCALE)) {
+            return false;
+        }
+
+        if (themeVersion != AbstractLookAndFeel.getThemeVersion()) {
+            iconMap.clear();
+            themeVersion = AbstractLookAndFeel.getThemeVersion();
+        }
+        Map imageMap = (Map) iconMap.get(painter);
+        if (imageMap == null) {
+            imageMap = new HashMap();
+            iconMap.put(painter, imageMap);
+        }
+        Long key = new Long((state & 0xFFFFL) | ((long) w << 16) | ((long) h << 28)
+                | (Math.round(sx * 100) << 40) | (Math.round(sy * 100) << 51));
+        Image image = (Image) imageMap.get(key);
+        if (image == null) {
+            int iw = (int) Math.ceil((w + 2 * MARGIN) * sx);
+            int ih = (int) Math.ceil((h + 2 * MARGIN) * sy);
+            BufferedImage bi = new BufferedImage(iw, ih, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D ig2D = bi.createGraphics();
+            ig2D.setRenderingHints(g2D.getRenderingHints());
+            ig2D.setStroke(g2D.getStroke());
+            ig2D.scale(sx, sy);
+            ig2D.translate(MARGIN - x, MARGIN - y);
+            ig2D.clipRect(x - MARGIN, y - MARGIN, w + 2 * MARGIN, h + 2 * MARGIN);
+            painter.paintIconImage(c, ig2D, x, y);
+            ig2D.dispose();
+            if (imageMap.size() >= MAX_IMAGES_PER_ICON) {
+                imageMap.clear();
+            }
+            imageMap.put(key, bi);
+            image = bi;
+        }
+        Point2D p = savedTransform.transform(new Point2D.Double(x - MARGIN, y - MARGIN), null);
+        g2D.setTransform(AffineTransform.getTranslateInstance(Math.round(p.getX()), Math.round(p.getY())));
+        g2D.drawImage(image, 0, 0, null);
+        g2D.setTransform(savedTransform);
+        return true;
+    }
+
+//-----------------------------------------------------------------------------------------------------------
+    /**
+     * An icon which can be painted into the image cache.
+     */
+    public interface IconPainter {
+
+        /**
+         * Paints the icon without using the cache.
+         */
+        void paintIconImage(Component c, Graphics g, int x, int y);
+    }
+
+} // end of class IconImageCache
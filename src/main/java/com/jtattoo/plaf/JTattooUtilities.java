@@ -24,6 +24,9 @@
 package com.jtattoo.plaf;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.WeakHashMap;
 import javax.swing.*;
 import javax.swing.plaf.basic.BasicGraphicsUtils;
 
@@ -44,6 +47,7 @@ public class JTattooUtilities {
     private static Double javaVersion = null;
     private static Double osVersion = null;
     private static final String ELLIPSIS = "...";
+    private static final Map texturePaintMap = new WeakHashMap();
 
     public static double getJavaVersion() {
         if (javaVersion == null) {
@@ -202,9 +206,21 @@ public class JTattooUtilities {
 
         Container parent = getRootContainer(c);
         if ((parent != null) && parent.isShowing() && c.isShowing()) {
-            Point p1 = c.getLocationOnScreen();
-            Point p2 = parent.getLocationOnScreen();
-            return new Point(p1.x - p2.x, p1.y - p2.y);
+            if (c instanceof Window) {
+                Point p1 = c.getLocationOnScreen();
+                Point p2 = parent.getLocationOnScreen();
+                return new Point(p1.x - p2.x, p1.y - p2.y);
+            }
+            // Sum up the locations along the parent chain, this avoids the expensive getLocationOnScreen calls
+            int x = 0;
+            int y = 0;
+            Component comp = c;
+            while ((comp != null) && (comp != parent)) {
+                x += comp.getX();
+                y += comp.getY();
+                comp = comp.getParent();
+            }
+            return new Point(x, y);
         }
 
         return new Point(0, 0);
@@ -214,15 +230,25 @@ public class JTattooUtilities {
         if ((text == null) || (text.length() == 0)) {
             return "";
         }
-        int width = SwingUtilities.computeStringWidth(fm, text);
+        int width = TextWidthCache.getStringWidth(fm, text);
         if (width > maxWidth) {
-            int totalWidth = SwingUtilities.computeStringWidth(fm, ELLIPSIS);
-            for (int i = 0; i < text.length(); i++) {
-                totalWidth += fm.charWidth(text.charAt(i));
-                if (totalWidth > maxWidth) {
-                    return text.substring(0, i) + ELLIPSIS;
+            int ellipsisWidth = TextWidthCache.getStringWidth(fm, ELLIPSIS);
+            int advances[] = TextWidthCache.getCharAdvances(fm, text);
+            // Search the first character which doesn't fit in front of the ellipsis
+            int lo = 1;
+            int hi = text.length();
+            if (ellipsisWidth + advances[hi] <= maxWidth) {
+                return text;
+            }
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ellipsisWidth + advances[mid] > maxWidth) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
                 }
             }
+            return text.substring(0, lo - 1) + ELLIPSIS;
         }
         return text;
     }
@@ -259,7 +285,9 @@ public class JTattooUtilities {
             savedRenderingHint = g2D.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
             g2D.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, AbstractLookAndFeel.getTheme().getTextAntiAliasingHint());
         }
-        g2D.drawString(text, x, y);
+        if (!GlyphVectorCache.drawString(g, text, x, y)) {
+            g2D.drawString(text, x, y);
+        }
         if (AbstractLookAndFeel.getTheme().isTextAntiAliasingOn()) {
             g2D.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, savedRenderingHint);
         }
@@ -272,13 +300,23 @@ public class JTattooUtilities {
             savedRenderingHint = g2D.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
             g2D.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, AbstractLookAndFeel.getTheme().getTextAntiAliasingHint());
         }
-        BasicGraphicsUtils.drawStringUnderlineCharAt(g, text, underlinedIndex, x, y);
+        // Strings without an underlined character are drawn from the glyph vector cache
+        boolean underlined = (text != null) && (underlinedIndex >= 0) && (underlinedIndex < text.length());
+        if (underlined || !GlyphVectorCache.drawString(g, text, x, y)) {
+            BasicGraphicsUtils.drawStringUnderlineCharAt(g, text, underlinedIndex, x, y);
+        }
         if (AbstractLookAndFeel.getTheme().isTextAntiAliasingOn()) {
             g2D.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, savedRenderingHint);
         }
     }
 
     public static void fillHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
+        if (!GradientCache.fillGradient(g, colors, GradientCache.HOR_GRADIENT, false, x, y, w, h)) {
+            paintHorGradient(g, colors, x, y, w, h);
+        }
+    }
+
+    static void paintHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
         if (colors != null) {
             int steps = colors.length;
             double dy = (double) h / (double) (steps);
@@ -295,12 +333,18 @@ public class JTattooUtilities {
                     y1 = y2;
                 }
             } else {
-                smoothFillHorGradient(g, colors, x, y, w, h);
+                paintSmoothHorGradient(g, colors, x, y, w, h);
             }
         }
     }
 
     public static void smoothFillHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
+        if (!GradientCache.fillGradient(g, colors, GradientCache.SMOOTH_HOR_GRADIENT, false, x, y, w, h)) {
+            paintSmoothHorGradient(g, colors, x, y, w, h);
+        }
+    }
+
+    static void paintSmoothHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
         if (colors != null) {
             Graphics2D g2D = (Graphics2D) g;
             Paint savedPaint = g2D.getPaint();
@@ -324,6 +368,12 @@ public class JTattooUtilities {
     }
 
     public static void fillInverseHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
+        if (!GradientCache.fillGradient(g, colors, GradientCache.HOR_GRADIENT, true, x, y, w, h)) {
+            paintInverseHorGradient(g, colors, x, y, w, h);
+        }
+    }
+
+    static void paintInverseHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
         if (colors != null) {
             int steps = colors.length;
             double dy = (double) h / (double) steps;
@@ -340,12 +390,18 @@ public class JTattooUtilities {
                     y1 = y2;
                 }
             } else {
-                smoothFillInverseHorGradient(g, colors, x, y, w, h);
+                paintSmoothInverseHorGradient(g, colors, x, y, w, h);
             }
         }
     }
 
     public static void smoothFillInverseHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
+        if (!GradientCache.fillGradient(g, colors, GradientCache.SMOOTH_HOR_GRADIENT, true, x, y, w, h)) {
+            paintSmoothInverseHorGradient(g, colors, x, y, w, h);
+        }
+    }
+
+    static void paintSmoothInverseHorGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
         if (colors != null) {
             Graphics2D g2D = (Graphics2D) g;
             Paint savedPaint = g2D.getPaint();
@@ -370,6 +426,12 @@ public class JTattooUtilities {
     }
 
     public static void fillVerGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
+        if (!GradientCache.fillGradient(g, colors, GradientCache.VER_GRADIENT, false, x, y, w, h)) {
+            paintVerGradient(g, colors, x, y, w, h);
+        }
+    }
+
+    static void paintVerGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
         if (colors != null) {
             int steps = colors.length;
             double dx = (double) w / (double) steps;
@@ -388,6 +450,12 @@ public class JTattooUtilities {
     }
 
     public static void fillInverseVerGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
+        if (!GradientCache.fillGradient(g, colors, GradientCache.VER_GRADIENT, true, x, y, w, h)) {
+            paintInverseVerGradient(g, colors, x, y, w, h);
+        }
+    }
+
+    static void paintInverseVerGradient(Graphics g, Color[] colors, int x, int y, int w, int h) {
         if (colors != null) {
             int steps = colors.length;
             double dx = (double) w / (double) steps;
@@ -406,27 +474,77 @@ public class JTattooUtilities {
     }
 
     public static void fillComponent(Graphics g, Component c, Icon texture) {
-        int x = 0;
-        int y = 0;
         int w = c.getWidth();
         int h = c.getHeight();
-        if (texture != null) {
-            int tw = texture.getIconWidth();
-            int th = texture.getIconHeight();
+        TexturePaint texturePaint = getTexturePaint(texture);
+        if (texturePaint != null) {
             Point p = JTattooUtilities.getRelLocation(c);
-            y = -p.y;
-            while (y < h) {
-                x = -p.x;
-                while (x < w) {
-                    texture.paintIcon(c, g, x, y);
-                    x += tw;
-                }
-                y += th;
-            }
+            fillTexture(g, texturePaint, -p.x, -p.y, 0, 0, w, h);
         } else {
             g.setColor(c.getBackground());
-            g.fillRect(x, y, w, h);
+            g.fillRect(0, 0, w, h);
+        }
+    }
+
+    /**
+     * Fills the given area with the texture paint. The tiles of the texture will be aligned to the position tx, ty.
+     */
+    public static void fillTexture(Graphics g, TexturePaint texturePaint, int tx, int ty, int x, int y, int w, int h) {
+        Graphics2D g2D = (Graphics2D) g;
+        Paint savedPaint = g2D.getPaint();
+        g2D.setPaint(texturePaint);
+        g2D.translate(tx, ty);
+        g2D.fillRect(x - tx, y - ty, w, h);
+        g2D.translate(-tx, -ty);
+        g2D.setPaint(savedPaint);
+    }
+
+    /**
+     * Returns a texture paint with the content of the icon. The icon is painted only once into an image, the texture
+     * paint is cached as long as the icon is referenced.
+     *
+     * @param texture the icon which should be used as texture
+     *
+     * @return the texture paint or null if texture is null or has no valid size
+     */
+    public static synchronized TexturePaint getTexturePaint(Icon texture) {
+        if (texture == null) {
+            return null;
         }
+        TexturePaint texturePaint = (TexturePaint) texturePaintMap.get(texture);
+        if (texturePaint == null) {
+            int tw = texture.getIconWidth();
+            int th = texture.getIconHeight();
+            if ((tw <= 0) || (th <= 0)) {
+                return null;
+            }
+            BufferedImage image = new BufferedImage(tw, th, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2D = image.createGraphics();
+            texture.paintIcon(null, g2D, 0, 0);
+            g2D.dispose();
+            if (isOpaque(image) && !GraphicsEnvironment.isHeadless()) {
+                // Opaque compatible images can be drawn much faster than translucent ones
+                GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+                BufferedImage opaqueImage = gc.createCompatibleImage(tw, th, Transparency.OPAQUE);
+                g2D = opaqueImage.createGraphics();
+                g2D.drawImage(image, 0, 0, null);
+                g2D.dispose();
+                image = opaqueImage;
+            }
+            texturePaint = new TexturePaint(image, new Rectangle(0, 0, tw, th));
+            texturePaintMap.put(texture, texturePaint);
+        }
+        return texturePaint;
+    }
+
+    private static boolean isOpaque(BufferedImage image) {
+        int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        for (int i = 0; i < pixels.length; i++) {
+            if ((pixels[i] >>> 24) != 0xff) {
+                return false;
+            }
+        }
+        return true;
     }
 
     //-------------------------------------------------------------------------------------------
@@ -21,11 +21,25 @@
 * see: APACHE-LICENSE-2.0.txt
 */
 
+
 package com.jtattoo.plaf;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
 
 /**
  *
@@ -33,14 +47,28 @@ import javax.swing.ImageIcon;
  */
 public class LazyImageIcon implements Icon {
 
+    private static final double MAX_SCALE = 8.0;
+    private static final int MAX_SCALED_IMAGES = 4;
+    private static ExecutorService preloadExecutor = null;
+
     private String name = null;
-    private ImageIcon icon = null;
+    private volatile ImageIcon icon = null;
+    private Future loader = null;
+    // Resampled images for scaled graphics contexts (e.g. HiDPI screens), keyed by the scale factors
+    private HashMap scaledImages = null;
 
     public LazyImageIcon(String name) {
         this.name = name;
     }
 
     private Icon getIcon() {
+        if (icon == null) {
+            load();
+        }
+        return icon;
+    }
+
+    private synchronized void load() {
         if (icon == null) {
             try {
                 icon = new ImageIcon(LazyImageIcon.class.getResource(name));
@@ -48,7 +76,122 @@ public class LazyImageIcon implements Icon {
                 System.out.println("ERROR: loading image " + name + " failed!");
             }
         }
-        return icon;
+    }
+
+    private synchronized Future getLoader() {
+        return loader;
+    }
+
+    private synchronized Future startLoading(final Runnable onDone) {
+        if (loader == null) {
+            loader = new FutureTask(new Runnable() {
+
+                @Override
+                public void run() {
+                    load();
+                }
+            }, null) {
+
+                @Override
+                protected void done() {
+                    onDone.run();
+                }
+            };
+            getPreloadExecutor().execute((Runnable) loader);
+        } else if (loader.isDone()) {
+            onDone.run();
+        } else {
+            final Future pendingLoader = loader;
+            getPreloadExecutor().execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        pendingLoader.get();
+                    } catch (Exception ex) {
+                    } finally {
+                        onDone.run();
+                    }
+                }
+            });
+        }
+        return loader;
+    }
+
+    private static synchronized ExecutorService getPreloadExecutor() {
+        if (preloadExecutor == null) {
+            int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+            preloadExecutor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "JTattoo-IconPreloader-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+        }
+        return preloadExecutor;
+    }
+
+    /**
+     * Decodes the images of the given icons on background threads. Icons which are painted before their image has
+     * been decoded are painted empty, all windows are repainted when the preloading is finished. Querying the size
+     * of an icon always waits until its image is available.
+     *
+     * @param icons a collection of icons, all icons which are not instances of LazyImageIcon are ignored
+     *
+     * @return a future which is done when all icons have been decoded
+     */
+    public static Future preload(Collection icons) {
+        int count = 0;
+        Iterator iter = icons.iterator();
+        while (iter.hasNext()) {
+            if (iter.next() instanceof LazyImageIcon) {
+                count++;
+            }
+        }
+        final FutureTask readiness = new FutureTask(new Runnable() {
+
+            @Override
+            public void run() {
+                SwingUtilities.invokeLater(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        Window[] windows = Window.getWindows();
+                        for (int i = 0; i < windows.length; i++) {
+                            windows[i].repaint();
+                        }
+                    }
+                });
+            }
+        }, null);
+        if (count == 0) {
+            readiness.run();
+            return readiness;
+        }
+        final AtomicInteger remaining = new AtomicInteger(count);
+        Runnable onDone = new Runnable() {
+
+            @Override
+            public void run() {
+                if (remaining.decrementAndGet() == 0) {
+                    readiness.run();
+                }
+            }
+        };
+        iter = icons.iterator();
+        while (iter.hasNext()) {
+            Object icon = iter.next();
+            if (icon instanceof LazyImageIcon) {
+                ((LazyImageIcon) icon).startLoading(onDone);
+            }
+        }
+        return readiness;
     }
 
     public Image getImage() {
@@ -78,8 +221,17 @@ public class LazyImageIcon implements Icon {
 
     @Override
     public void paintIcon(Component c, Graphics g, int x, int y) {
+        if (icon == null) {
+            Future preloader = getLoader();
+            if ((preloader != null) && !preloader.isDone()) {
+                // The image is still decoded in the background, so we paint nothing until it's available
+                return;
+            }
+        }
         if (getIcon() != null) {
-            icon.paintIcon(c, g, x, y);
+            if (!paintScaledIcon(c, g, x, y)) {
+                icon.paintIcon(c, g, x, y);
+            }
         } else {
             g.setColor(Color.red);
             g.fillRect(x, y, 16, 16);
@@ -89,4 +241,64 @@ public class LazyImageIcon implements Icon {
         }
     }
 
+    /**
+     * Paints the icon with an image which has been resampled for the scaling of the graphics context. The resampled
+     * images are cached for each scale factor, so the image has not to be scaled on every paint.
+     *
+     * @return true if the icon has been painted, false if the graphics context isn't scaled
+     */
+    private boolean paintScaledIcon(Component c, Graphics g, int x, int y) {
+        if (!(g instanceof Graphics2D)) {
+            return false;
+        }
+        Graphics2D g2D = (Graphics2D) g;
+        AffineTransform savedTransform = g2D.getTransform();
+        if ((savedTransform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0) {
+            return false;
+        }
+        double sx = savedTransform.getScaleX();
+        double sy = savedTransform.getScaleY();
+        if ((sx == 1.0 && sy == 1.0) || (sx <= 0.0) || (sy <= 0.0) || (sx > MAX_SCALE) || (sy > MAX_SCALE)) {
+            return false;
+        }
+        Image scaledImage = getScaledImage(c, sx, sy);
+        if (scaledImage == null) {
+            return false;
+        }
+        Point2D p = savedTransform.transform(new Point2D.Double(x, y), null);
+        g2D.setTransform(AffineTransform.getTranslateInstance(Math.round(p.getX()), Math.round(p.getY())));
+        g2D.drawImage(scaledImage, 0, 0, null);
+        g2D.setTransform(savedTransform);
+        return true;
+    }
+
+    private synchronized Image getScaledImage(Component c, double sx, double sy) {
+        Integer key = new Integer(((int) Math.round(sx * 1000) << 16) | (int) Math.round(sy * 1000));
+        if (scaledImages == null) {
+            scaledImages = new HashMap();
+        }
+        Image scaledImage = (Image) scaledImages.get(key);
+        if (scaledImage == null) {
+            int w = icon.getIconWidth();
+            int h = icon.getIconHeight();
+            int sw = (int) Math.round(w * sx);
+            int sh = (int) Math.round(h * sy);
+            if ((w <= 0) || (h <= 0) || (sw <= 0) || (sh <= 0)) {
+                return null;
+            }
+            BufferedImage image = new BufferedImage(sw, sh, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2D = image.createGraphics();
+            g2D.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g2D.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2D.drawImage(icon.getImage(), 0, 0, sw, sh, c);
+            g2D.dispose();
+            if (scaledImages.size() >= MAX_SCALED_IMAGES) {
+                scaledImages.clear();
+            }
+            scaledImages.put(key, image);
+            scaledImage = image;
+        }
+        return scaledImage;
+    }
+
 } // end of class LazyImageIcon
@@ -0,0 +1,319 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.plaf;
+
+import java.awt.Component;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.*;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in paint timing of the ui delegates. If the system property <code>jtattoo.paintStatistics</code> is set to
+ * <code>true</code> the number of paints, the total and maximum paint time and the bytes allocated while painting
+ * (if the virtual machine can measure them) are recorded per ui delegate class and per component. The statistics
+ * are published as the MBean <code>com.jtattoo:type=PaintStatistics</code> and logged every
+ * <code>jtattoo.paintStatistics.logInterval</code> seconds (60 by default, 0 turns the log off).
+ * <p>
+ * A paint is recorded between {@link #start()} and {@link #stop(int, Object, Component)}:
+ * <pre>
+ *     int token = PaintStatistics.start();
+ *     try {
+ *         ...
+ *     } finally {
+ *         PaintStatistics.stop(token, this, c);
+ *     }
+ * </pre>
+ * If the statistics are disabled both calls return immediately.
+ */
+public class PaintStatistics implements PaintStatisticsMBean {
+
+    public static final boolean ENABLED = getBooleanProperty("jtattoo.paintStatistics");
+
+    private static final int MAX_COMPONENT_LINES = 50;
+    private static final int MAX_LOG_LINES = 10;
+
+    private static final Map delegateStats = new HashMap();
+    private static final Map componentStats = new WeakHashMap();
+    private static final ThreadLocal frames = new ThreadLocal();
+
+    private static ThreadMXBean threadBean = null;
+    private static Method allocatedBytesMethod = null;
+
+    static {
+        if (ENABLED) {
+            install();
+        }
+    }
+
+    /**
+     * Starts recording a paint of the current thread.
+     *
+     * @return the token which has to be passed to {@link #stop(int, Object, Component)}, -1 if the statistics are
+     * disabled
+     */
+    public static int start() {
+        if (!ENABLED) {
+            return -1;
+        }
+        FrameStack stack = (FrameStack) frames.get();
+        if (stack == null) {
+            stack = new FrameStack();
+            frames.set(stack);
+        }
+        return stack.push(System.nanoTime(), getAllocatedBytes());
+    }
+
+    /**
+     * Stops recording a paint started with {@link #start()}.
+     *
+     * @param token the token returned by {@link #start()}
+     * @param delegate the ui delegate or component which has painted
+     * @param c the painted component
+     */
+    public static void stop(int token, Object delegate, Component c) {
+        if (token < 0) {
+            return;
+        }
+        FrameStack stack = (FrameStack) frames.get();
+        long time = System.nanoTime() - stack.startTimes[token];
+        long bytes = Math.max(0, getAllocatedBytes() - stack.startBytes[token]);
+        stack.depth = token;
+        synchronized (PaintStatistics.class) {
+            getStats(delegateStats, delegate.getClass().getName()).add(time, bytes);
+            if (c != null) {
+                getStats(componentStats, c).add(time, bytes);
+            }
+        }
+    }
+
+    public String[] getDelegateStatistics() {
+        return getLines(delegateStats, Integer.MAX_VALUE);
+    }
+
+    public String[] getComponentStatistics() {
+        return getLines(componentStats, MAX_COMPONENT_LINES);
+    }
+
+    public long getPaintCount() {
+        synchronized (PaintStatistics.class) {
+            long count = 0;
+            Iterator iterator = delegateStats.values().iterator();
+            while (iterator.hasNext()) {
+                count += ((Stats) iterator.next()).count;
+            }
+            return count;
+        }
+    }
+
+    public long getPaintTime() {
+        synchronized (PaintStatistics.class) {
+            long time = 0;
+            Iterator iterator = delegateStats.values().iterator();
+            while (iterator.hasNext()) {
+                time += ((Stats) iterator.next()).totalTime;
+            }
+            return time / 1000000;
+        }
+    }
+
+    public void reset() {
+        synchronized (PaintStatistics.class) {
+            delegateStats.clear();
+            componentStats.clear();
+        }
+    }
+
+    private static boolean getBooleanProperty(String name) {
+        try {
+            return Boolean.getBoolean(name);
+        } catch (SecurityException ex) {
+            return false;
+        }
+    }
+
+    private static void install() {
+        try {
+            threadBean = ManagementFactory.getThreadMXBean();
+            Class beanClass = Class.forName("com.sun.management.ThreadMXBean");
+            if (beanClass.isInstance(threadBean)) {
+                allocatedBytesMethod = beanClass.getMethod("getThreadAllocatedBytes", new Class[]{long.class});
+            }
+        } catch (Throwable t) {
+            // The allocated bytes can't be measured by this virtual machine
+            allocatedBytesMethod = null;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new PaintStatistics(),
+                    new ObjectName("com.jtattoo:type=PaintStatistics"));
+        } catch (Exception ex) {
+            System.out.println("ERROR: registering the paint statistics failed! " + ex);
+        }
+        long interval = 60;
+        try {
+            interval = Long.parseLong(System.getProperty("jtattoo.paintStatistics.logInterval", "60").trim());
+        } catch (Exception ex) {
+            // Use the default interval
+        }
+        if (interval > 0) {
+            Timer timer = new Timer("JTattoo paint statistics", true);
+            timer.schedule(new TimerTask() {
+
+                public void run() {
+                    logSummary();
+                }
+            }, interval * 1000, interval * 1000);
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        if (allocatedBytesMethod == null) {
+            return 0;
+        }
+        try {
+            Object args[] = new Object[]{new Long(Thread.currentThread().getId())};
+            Long bytes = (Long) allocatedBytesMethod.invoke(threadBean, args);
+            return bytes.longValue();
+        } catch (Exception ex) {
+            allocatedBytesMethod = null;
+            return 0;
+        }
+    }
+
+    private static Stats getStats(Map map, Object key) {
+        Stats stats = (Stats) map.get(key);
+        if (stats == null) {
+            stats = new Stats();
+            map.put(key, stats);
+        }
+        return stats;
+    }
+
+    private static String[] getLines(Map map, int maxLines) {
+        List entries;
+        synchronized (PaintStatistics.class) {
+            entries = new ArrayList();
+            Iterator iterator = map.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry entry = (Map.Entry) iterator.next();
+                entries.add(new Object[]{getName(entry.getKey()), ((Stats) entry.getValue()).copy()});
+            }
+        }
+        Collections.sort(entries, new Comparator() {
+
+            public int compare(Object o1, Object o2) {
+                long t1 = ((Stats) ((Object[]) o1)[1]).totalTime;
+                long t2 = ((Stats) ((Object[]) o2)[1]).totalTime;
+                return (t1 < t2) ? 1 : ((t1 > t2) ? -1 : 0);
+            }
+        });
+        int count = Math.min(maxLines, entries.size());
+        String lines[] = new String[count];
+        for (int i = 0; i < count; i++) {
+            Object entry[] = (Object[]) entries.get(i);
+            lines[i] = entry[0] + ": " + entry[1];
+        }
+        return lines;
+    }
+
+    private static String getName(Object key) {
+        if (key instanceof Component) {
+            Component c = (Component) key;
+            String name = c.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(c));
+            return (c.getName() == null) ? name : name + " (" + c.getName() + ")";
+        }
+        return String.valueOf(key);
+    }
+
+    private static void logSummary() {
+        String lines[] = getLines(delegateStats, MAX_LOG_LINES);
+        if (lines.length > 0) {
+            StringBuffer buffer = new StringBuffer("JTattoo paint statistics:");
+            for (int i = 0; i < lines.length; i++) {
+                buffer.append("\n    ").append(lines[i]);
+            }
+            System.out.println(buffer.toString());
+        }
+    }
+
+//-----------------------------------------------------------------------------------------------
+    private static class Stats {
+
+        private long count = 0;
+        private long totalTime = 0;
+        private long maxTime = 0;
+        private long totalBytes = 0;
+
+        private void add(long time, long bytes) {
+            count++;
+            totalTime += time;
+            maxTime = Math.max(maxTime, time);
+            totalBytes += bytes;
+        }
+
+        private Stats copy() {
+            Stats stats = new Stats();
+            stats.count = count;
+            stats.totalTime = totalTime;
+            stats.maxTime = maxTime;
+            stats.totalBytes = totalBytes;
+            return stats;
+        }
+
+        public String toString() {
+            long avgTime = (count == 0) ? 0 : totalTime / count;
+            long avgBytes = (count == 0) ? 0 : totalBytes / count;
+            return "count=" + count + ", total=" + (totalTime / 1000000) + "ms, max=" + (maxTime / 1000) + "us, avg="
+                    + (avgTime / 1000) + "us, bytes/paint=" + avgBytes;
+        }
+
+    } // end of class Stats
+
+//-----------------------------------------------------------------------------------------------
+    private static class FrameStack {
+
+        private long startTimes[] = new long[8];
+        private long startBytes[] = new long[8];
+        private int depth = 0;
+
+        private int push(long time, long bytes) {
+            if (depth == startTimes.length) {
+                long times[] = new long[depth * 2];
+                long allocated[] = new long[depth * 2];
+                System.arraycopy(startTimes, 0, times, 0, depth);
+                System.arraycopy(startBytes, 0, allocated, 0, depth);
+                startTimes = times;
+                startBytes = allocated;
+            }
+            startTimes[depth] = time;
+            startBytes[depth] = bytes;
+            return depth++;
+        }
+
+    } // end of class FrameStack
+
+} // end of class PaintStatistics
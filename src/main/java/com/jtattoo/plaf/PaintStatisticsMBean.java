@@ -0,0 +1,68 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.plaf;
+
+/**
+ * The management interface of the paint statistics. The statistics are registered as
+ * <code>com.jtattoo:type=PaintStatistics</code> if the system property <code>jtattoo.paintStatistics</code> is set
+ * to <code>true</code>.
+ */
+public interface PaintStatisticsMBean {
+
+    /**
+     * Returns the statistics per ui delegate class, sorted by the total paint time.
+     *
+     * @return one line per ui delegate class
+     */
+    String[] getDelegateStatistics();
+
+    /**
+     * Returns the statistics of the components with the highest total paint time.
+     *
+     * @return one line per component
+     */
+    String[] getComponentStatistics();
+
+    /**
+     * Returns the number of recorded paints.
+     *
+     * @return the number of recorded paints
+     */
+    long getPaintCount();
+
+    /**
+     * Returns the total recorded paint time in milliseconds.
+     *
+     * @return the total recorded paint time
+     */
+    long getPaintTime();
+
+    /**
+     * Clears all statistics.
+     */
+    void reset();
+
+} // end of interface PaintStatisticsMBean
@@ -0,0 +1,110 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.plaf;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import javax.swing.Timer;
+import javax.swing.UIManager;
+
+/**
+ * A single animation clock for all indeterminate progress bars. Instead of one timer per progress bar, the
+ * registered bars are advanced by one shared timer. The animation index of every bar is derived from the same
+ * clock, so all bars move in phase. Bars which aren't showing are skipped until they are visible again.
+ */
+public class ProgressBarAnimator implements ActionListener {
+
+    private static final int DEFAULT_REPAINT_INTERVAL = 50;
+
+    private static ProgressBarAnimator animator = null;
+
+    private final ArrayList clients = new ArrayList();
+    private final long startTime = System.nanoTime();
+    private int repaintInterval = DEFAULT_REPAINT_INTERVAL;
+    private Timer timer = null;
+
+    private ProgressBarAnimator() {
+    }
+
+    /**
+     * Adds the progress bar ui to the animated bars. Has to be called on the event dispatch thread.
+     *
+     * @param ui the ui of an indeterminate progress bar
+     */
+    public static void register(BaseProgressBarUI ui) {
+        if (animator == null) {
+            animator = new ProgressBarAnimator();
+        }
+        animator.add(ui);
+    }
+
+    /**
+     * Removes the progress bar ui from the animated bars. Has to be called on the event dispatch thread.
+     *
+     * @param ui the ui of a progress bar
+     */
+    public static void unregister(BaseProgressBarUI ui) {
+        if (animator != null) {
+            animator.remove(ui);
+        }
+    }
+
+    private void add(BaseProgressBarUI ui) {
+        if (clients.contains(ui)) {
+            return;
+        }
+        clients.add(ui);
+        if (timer == null) {
+            repaintInterval = UIManager.getInt("ProgressBar.repaintInterval");
+            if (repaintInterval <= 0) {
+                repaintInterval = DEFAULT_REPAINT_INTERVAL;
+            }
+            timer = new Timer(repaintInterval, this);
+            timer.setRepeats(true);
+            timer.setCoalesce(true);
+            timer.start();
+        }
+    }
+
+    private void remove(BaseProgressBarUI ui) {
+        clients.remove(ui);
+        if (clients.isEmpty() && (timer != null)) {
+            timer.stop();
+            timer = null;
+        }
+    }
+
+    public void actionPerformed(ActionEvent e) {
+        long frame = (System.nanoTime() - startTime) / (repaintInterval * 1000000L);
+        // The clients may unregister while they are animated
+        Object uis[] = clients.toArray();
+        for (int i = 0; i < uis.length; i++) {
+            ((BaseProgressBarUI) uis[i]).animate(frame);
+        }
+    }
+
+} // end of class ProgressBarAnimator
@@ -0,0 +1,153 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+
+package com.jtattoo.plaf;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.font.FontRenderContext;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.swing.SwingUtilities;
+
+/**
+ * A bounded cache for the advance widths of strings. The widths are kept per font, font render context and text,
+ * so tabs, title panes and headers painting the same labels don't measure them again and again. For texts which
+ * have to be clipped the cumulative character advances are kept as well, so the clip position can be found by a
+ * binary search.
+ */
+public class TextWidthCache {
+
+    private static final int MAX_ENTRIES = 2048;
+
+    private static final Map cache = new LinkedHashMap(256, 0.75f, true) {
+
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private TextWidthCache() {
+    }
+
+    /**
+     * Returns the width of the text as computed by <code>SwingUtilities.computeStringWidth</code>.
+     *
+     * @param fm the font metrics used to measure the text
+     * @param text the text
+     * @return the width of the text
+     */
+    public static int getStringWidth(FontMetrics fm, String text) {
+        if ((fm == null) || (text == null) || (text.length() == 0)) {
+            return SwingUtilities.computeStringWidth(fm, text);
+        }
+        return getEntry(fm, text).width;
+    }
+
+    /**
+     * Returns the cumulative character advances of the text. The element at index <code>i</code> holds the sum of
+     * the widths of the first <code>i</code> characters, so the array has one element more than the text has
+     * characters. The returned array is shared and must not be modified.
+     *
+     * @param fm the font metrics used to measure the text
+     * @param text the text
+     * @return the cumulative character advances
+     */
+    public static int[] getCharAdvances(FontMetrics fm, String text) {
+        if ((text == null) || (text.length() == 0)) {
+            return new int[1];
+        }
+        CacheEntry entry = getEntry(fm, text);
+        synchronized (entry) {
+            if (entry.advances == null) {
+                int advances[] = new int[text.length() + 1];
+                for (int i = 0; i < text.length(); i++) {
+                    advances[i + 1] = advances[i] + fm.charWidth(text.charAt(i));
+                }
+                entry.advances = advances;
+            }
+            return entry.advances;
+        }
+    }
+
+    private static CacheEntry getEntry(FontMetrics fm, String text) {
+        CacheKey key = new CacheKey(fm.getFont(), fm.getFontRenderContext(), text);
+        synchronized (TextWidthCache.class) {
+            CacheEntry entry = (CacheEntry) cache.get(key);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        // Measure outside of the lock, a concurrent measurement of the same text gives the same result
+        CacheEntry entry = new CacheEntry(SwingUtilities.computeStringWidth(fm, text));
+        synchronized (TextWidthCache.class) {
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+//-----------------------------------------------------------------------------------------------
+    private static class CacheKey {
+
+        private final Font font;
+        private final FontRenderContext frc;
+        private final String text;
+        private final int hash;
+
+        public CacheKey(Font font, FontRenderContext frc, String text) {
+            this.font = font;
+            this.frc = frc;
+            this.text = text;
+            this.hash = (((font.hashCode() * 31) + (frc == null ? 0 : frc.hashCode())) * 31) + text.hashCode();
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return (hash == other.hash) && text.equals(other.text) && font.equals(other.font)
+                    && (frc == null ? other.frc == null : frc.equals(other.frc));
+        }
+
+    } // end of class CacheKey
+
+//-----------------------------------------------------------------------------------------------
+    private static class CacheEntry {
+
+        private final int width;
+        private int advances[];
+
+        public CacheEntry(int width) {
+            this.width = width;
+        }
+
+    } // end of class CacheEntry
+
+} // end of class TextWidthCache
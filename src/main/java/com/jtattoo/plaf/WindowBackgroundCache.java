@@ -0,0 +1,147 @@
+/*
+* Copyright (c) 2002 and later by MH Software-Entwicklung. All Rights Reserved.
+*  
+* JTattoo is multiple licensed. If your are an open source developer you can use
+* it under the terms and conditions of the GNU General Public License version 2.0
+* or later as published by the Free Software Foundation.
+*  
+* see: gpl-2.0.txt
+* 
+* If you pay for a license you will become a registered user who could use the
+* software under the terms and conditions of the GNU Lesser General Public License
+* version 2.0 or later with classpath exception as published by the Free Software
+* Foundation.
+* 
+* see: lgpl-2.0.txt
+* see: classpath-exception.txt
+* 
+* Registered users could also use JTattoo under the terms and conditions of the 
+* Apache License, Version 2.0 as published by the Apache Software Foundation.
+*  
+* see: APACHE-LICENSE-2.0.txt
+*/
+
+
+package com.jtattoo.plaf;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache for window aligned background patterns. The pattern is rendered once into an image of the size of the root
+ * container (window, internal frame or popup menu) and each component copies the part of the image which lies below
+ * it. While a window is resized the images are not rendered again until the size has been stable for a short time,
+ * in this case the caller has to paint the pattern directly.
+ */
+public class WindowBackgroundCache {
+
+    private static final int MAX_ENTRIES = 8;
+    private static final long MAX_PIXELS = 3840L * 2160L;
+    private static final long RESIZE_DELAY = 250;
+    private static final Map cacheMap = new WeakHashMap();
+
+    private WindowBackgroundCache() {
+    }
+
+    /**
+     * Draws the part of the cached window background which lies below the clip area of the component.
+     *
+     * @param g the graphics context of the component
+     * @param c the component
+     * @param key identifies the background, the image is rendered again if the key changes
+     * @param painter paints the background into the window sized image
+     * @return false if the background has not been drawn and must be painted by the caller
+     */
+    public static synchronized boolean drawBackground(Graphics g, Component c, Object key, BackgroundPainter painter) {
+        if (!(g instanceof Graphics2D) || (c == null) || (key == null) || !c.isShowing()) {
+            return false;
+        }
+        AffineTransform at = ((Graphics2D) g).getTransform();
+        if ((at.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+            return false;
+        }
+        Container root = JTattooUtilities.getRootContainer(c);
+        if (root == null) {
+            return false;
+        }
+        int rw = root.getWidth();
+        int rh = root.getHeight();
+        if ((rw <= 0) || (rh <= 0) || ((long) rw * (long) rh > MAX_PIXELS)) {
+            return false;
+        }
+        Point p = JTattooUtilities.getRelLocation(c);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, c.getWidth(), c.getHeight());
+        }
+        if ((clip.x + p.x < 0) || (clip.y + p.y < 0) || (clip.x + clip.width + p.x > rw) || (clip.y + clip.height + p.y > rh)) {
+            return false;
+        }
+
+        CacheEntry entry = (CacheEntry) cacheMap.get(root);
+        if ((entry == null) || (entry.width != rw) || (entry.height != rh) || !key.equals(entry.key)) {
+            long now = System.currentTimeMillis();
+            if ((entry != null) && ((entry.width != rw) || (entry.height != rh))) {
+                if (now - entry.resizeTime < RESIZE_DELAY) {
+                    // The window is resized, wait until the size is stable
+                    entry.resizeTime = now;
+                    return false;
+                }
+            }
+            Image image = createImage(root, rw, rh);
+            Graphics ig = image.getGraphics();
+            painter.paintBackground(root, ig, rw, rh);
+            ig.dispose();
+            if ((entry == null) && (cacheMap.size() >= MAX_ENTRIES)) {
+                cacheMap.clear();
+            }
+            entry = new CacheEntry(key, image, rw, rh, now);
+            cacheMap.put(root, entry);
+        }
+        g.drawImage(entry.image, -p.x, -p.y, null);
+        return true;
+    }
+
+    private static Image createImage(Component c, int w, int h) {
+        GraphicsConfiguration gc = c.getGraphicsConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(w, h, Transparency.OPAQUE);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    }
+
+//-----------------------------------------------------------------------------------------------------------
+    /**
+     * Paints a background pattern into the window sized image.
+     */
+    public interface BackgroundPainter {
+
+        /**
+         * Paints the background of a root container with the given size, the pattern origin is the upper left
+         * corner of the root container.
+         */
+        void paintBackground(Component c, Graphics g, int w, int h);
+    }
+
+//-----------------------------------------------------------------------------------------------------------
+    private static final class CacheEntry {
+
+        private final Object key;
+        private final Image image;
+        private final int width;
+        private final int height;
+        private long resizeTime;
+
+        CacheEntry(Object key, Image image, int width, int height, long resizeTime) {
+            this.key = key;
+            this.image = image;
+            this.width = width;
+            this.height = height;
+            this.resizeTime = resizeTime;
+        }
+    }
+
+} // end of class WindowBackgroundCache
@@ -285,7 +285,7 @@ public class AcrylLookAndFeel extends AbstractLookAndFeel {
         if ((myTheme != null) && (themesProps != null)) {
             myTheme.setUpColor();
             myTheme.setProperties(themesProps);
-            myTheme.setUpColorArrs();
+            myTheme.setUpColorArrs(themesProps);
             AbstractLookAndFeel.setTheme(myTheme);
         }
     }
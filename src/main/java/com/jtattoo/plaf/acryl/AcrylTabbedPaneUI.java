@@ -60,11 +60,11 @@ public class AcrylTabbedPaneUI extends BaseTabbedPaneUI {
                 }
             } else {
                 if (isSelected) {
-                    colorArr = ColorHelper.createColorArr(ColorHelper.brighter(backColor, 60), backColor, 20);
+                    colorArr = ColorHelper.getSharedColorArr(ColorHelper.brighter(backColor, 60), backColor, 20);
                 } else if (isRollover && isEnabled) {
-                    colorArr = ColorHelper.createColorArr(ColorHelper.brighter(backColor, 80), ColorHelper.brighter(backColor, 20), 20);
+                    colorArr = ColorHelper.getSharedColorArr(ColorHelper.brighter(backColor, 80), ColorHelper.brighter(backColor, 20), 20);
                 } else {
-                    colorArr = ColorHelper.createColorArr(ColorHelper.brighter(backColor, 40), ColorHelper.darker(backColor, 10), 20);
+                    colorArr = ColorHelper.getSharedColorArr(ColorHelper.brighter(backColor, 40), ColorHelper.darker(backColor, 10), 20);
                 }
             }
             return colorArr;
@@ -211,7 +211,7 @@ public class AeroLookAndFeel extends AbstractLookAndFeel {
         if ((myTheme != null) && (themesProps != null)) {
             myTheme.setUpColor();
             myTheme.setProperties(themesProps);
-            myTheme.setUpColorArrs();
+            myTheme.setUpColorArrs(themesProps);
             AbstractLookAndFeel.setTheme(myTheme);
         }
     }
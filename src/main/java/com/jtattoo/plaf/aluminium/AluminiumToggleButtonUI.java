@@ -24,7 +24,6 @@ package com.jtattoo.plaf.aluminium;
 
 import com.jtattoo.plaf.*;
 import java.awt.*;
-import java.awt.geom.Area;
 import java.awt.geom.RoundRectangle2D;
 import javax.swing.*;
 import javax.swing.plaf.*;
@@ -75,17 +74,17 @@ public class AluminiumToggleButtonUI extends BaseToggleButtonUI {
                 }
             } else {
                 if (model.isPressed() && model.isArmed()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
                 } else if (b.isRolloverEnabled() && model.isRollover()) {
                     if (model.isSelected()) {
-                        colors = ColorHelper.createColorArr(ColorHelper.darker(background, 20), background, 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 20), background, 20);
                     } else {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
                     }
                 } else if (model.isSelected()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 40), ColorHelper.darker(background, 20), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 40), ColorHelper.darker(background, 20), 20);
                 } else {
-                    colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
                 }
             }
         } else { // disabled
@@ -107,11 +106,7 @@ public class AluminiumToggleButtonUI extends BaseToggleButtonUI {
         } else {
             int d = height - 2;
             Shape savedClip = g.getClip();
-            Area clipArea = new Area(new RoundRectangle2D.Double(0, 0, width - 1, height - 1, d, d));
-            if (savedClip != null) {
-                clipArea.intersect(new Area(savedClip));
-            }
-            g2D.setClip(clipArea);
+            g2D.setClip(ClipCache.getClip(new RoundRectangle2D.Double(0, 0, width - 1, height - 1, d, d), savedClip));
             JTattooUtilities.fillHorGradient(g, colors, 0, 0, width - 1, height - 1);
             g2D.setClip(savedClip);
 
@@ -25,6 +25,7 @@ package com.jtattoo.plaf.aluminium;
 import com.jtattoo.plaf.AbstractLookAndFeel;
 import com.jtattoo.plaf.JTattooUtilities;
 import com.jtattoo.plaf.LazyImageIcon;
+import com.jtattoo.plaf.WindowBackgroundCache;
 import java.awt.*;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
@@ -38,53 +39,64 @@ public class AluminiumUtils {
     private static final Icon BG_IMAGE = new LazyImageIcon("aluminium/icons/background.jpg");
     //private static final Icon ALTER_BG_IMAGE = new LazyImageIcon("aluminium/icons/alterBackground.jpg");
     private static Image backgroundImage = null;
+    private static final WindowBackgroundCache.BackgroundPainter BACKGROUND_PAINTER = new WindowBackgroundCache.BackgroundPainter() {
+
+        @Override
+        public void paintBackground(Component c, Graphics g, int w, int h) {
+            AluminiumUtils.paintBackground(g, c, 0, 0, w, h, new Dimension(w, h));
+        }
+    };
 
     private AluminiumUtils() {
     }
 
     public static void fillComponent(Graphics g, Component c) {
-        Graphics2D g2D = (Graphics2D) g;
-        int w = c.getWidth();
-        int h = c.getHeight();
         if (AbstractLookAndFeel.getTheme().isBackgroundPatternOn()) {
-            // pattern
-            Point p = JTattooUtilities.getRelLocation(c);
-            Dimension d = JTattooUtilities.getFrameSize(c);
-            int y = -p.y;
-            int iw = BG_IMAGE.getIconWidth();
-            int ih = BG_IMAGE.getIconHeight();
-            while (y < h) {
-                int x = -p.x;
-                while (x < w) {
-                    BG_IMAGE.paintIcon(c, g, x, y);
-                    x += iw;
-                }
-                y += ih;
+            if (!WindowBackgroundCache.drawBackground(g, c, BG_IMAGE, BACKGROUND_PAINTER)) {
+                Point p = JTattooUtilities.getRelLocation(c);
+                Dimension d = JTattooUtilities.getFrameSize(c);
+                paintBackground(g, c, -p.x, -p.y, c.getWidth(), c.getHeight(), d);
             }
-            // higlight
-            if (backgroundImage == null
-                    || backgroundImage.getWidth(null) != d.width
-                    || backgroundImage.getHeight(null) != d.height) {
-                backgroundImage = c.createImage(d.width, d.height);
-                Graphics2D ig2D = (Graphics2D) backgroundImage.getGraphics();
-                Point pt1 = new Point(0, 0);
-                Point pt2 = new Point(d.width, 0);
-                float fractions[] = {0.0f, 0.5f, 1.0f};
-                Color c1 = new Color(220, 220, 220);
-                Color colors[] = {c1, Color.white, c1};
-                ig2D.setPaint(new LinearGradientPaint(pt1, pt2, fractions, colors));
-                ig2D.fillRect(0, 0, d.width, d.height);
-                ig2D.dispose();
-            }
-
-            Composite savedComposite = g2D.getComposite();
-            g2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
-            g2D.drawImage(backgroundImage, -p.x, 0, null);
-            g2D.setComposite(savedComposite);
         } else {
             g.setColor(c.getBackground());
-            g.fillRect(0, 0, w, h);
+            g.fillRect(0, 0, c.getWidth(), c.getHeight());
+        }
+    }
+
+    private static void paintBackground(Graphics g, Component c, int px, int py, int w, int h, Dimension d) {
+        Graphics2D g2D = (Graphics2D) g;
+        // pattern
+        int y = py;
+        int iw = BG_IMAGE.getIconWidth();
+        int ih = BG_IMAGE.getIconHeight();
+        while (y < h) {
+            int x = px;
+            while (x < w) {
+                BG_IMAGE.paintIcon(c, g, x, y);
+                x += iw;
+            }
+            y += ih;
+        }
+        // higlight
+        if (backgroundImage == null
+                || backgroundImage.getWidth(null) != d.width
+                || backgroundImage.getHeight(null) != d.height) {
+            backgroundImage = c.createImage(d.width, d.height);
+            Graphics2D ig2D = (Graphics2D) backgroundImage.getGraphics();
+            Point pt1 = new Point(0, 0);
+            Point pt2 = new Point(d.width, 0);
+            float fractions[] = {0.0f, 0.5f, 1.0f};
+            Color c1 = new Color(220, 220, 220);
+            Color colors[] = {c1, Color.white, c1};
+            ig2D.setPaint(new LinearGradientPaint(pt1, pt2, fractions, colors));
+            ig2D.fillRect(0, 0, d.width, d.height);
+            ig2D.dispose();
         }
+
+        Composite savedComposite = g2D.getComposite();
+        g2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
+        g2D.drawImage(backgroundImage, px, 0, null);
+        g2D.setComposite(savedComposite);
     }
 
     public static void fillComponent(Graphics g, Component c, int x, int y, int w, int h) {
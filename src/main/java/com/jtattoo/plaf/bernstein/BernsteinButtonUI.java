@@ -67,12 +67,12 @@ public class BernsteinButtonUI extends BaseButtonUI {
                 }
             } else {
                 if (model.isPressed() && model.isArmed()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
                 } else {
                     if (b.isRolloverEnabled() && model.isRollover()) {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
                     } else {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
                     }
                 }
             }
@@ -108,7 +108,7 @@ public class BernsteinLookAndFeel extends AbstractLookAndFeel {
         if ((myTheme != null) && (themesProps != null)) {
             myTheme.setUpColor();
             myTheme.setProperties(themesProps);
-            myTheme.setUpColorArrs();
+            myTheme.setUpColorArrs(themesProps);
             AbstractLookAndFeel.setTheme(myTheme);
         }
     }
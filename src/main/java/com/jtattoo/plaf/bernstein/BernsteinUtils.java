@@ -34,28 +34,39 @@ public class BernsteinUtils {
     private static final Icon BG_IMAGE = new LazyImageIcon("bernstein/icons/background.jpg");
     private static final int IMAGE_WIDTH = BG_IMAGE.getIconWidth();
     private static final int IMAGE_HEIGHT = BG_IMAGE.getIconHeight();
+    private static final WindowBackgroundCache.BackgroundPainter BACKGROUND_PAINTER = new WindowBackgroundCache.BackgroundPainter() {
+
+        @Override
+        public void paintBackground(Component c, Graphics g, int w, int h) {
+            BernsteinUtils.paintBackground(g, c, 0, 0, w, h);
+        }
+    };
 
     private BernsteinUtils() {
     }
 
     public static void fillComponent(Graphics g, Component c) {
         if (AbstractLookAndFeel.getTheme().isBackgroundPatternOn()) {
-            int w = c.getWidth();
-            int h = c.getHeight();
-            Point p = JTattooUtilities.getRelLocation(c);
-            int y = -p.y;
-            while (y < h) {
-                int x = -p.x;
-                while (x < w) {
-                    BG_IMAGE.paintIcon(c, g, x, y);
-                    x += IMAGE_WIDTH;
-                }
-                y += IMAGE_HEIGHT;
+            if (!WindowBackgroundCache.drawBackground(g, c, BG_IMAGE, BACKGROUND_PAINTER)) {
+                Point p = JTattooUtilities.getRelLocation(c);
+                paintBackground(g, c, -p.x, -p.y, c.getWidth(), c.getHeight());
             }
         } else {
             g.setColor(c.getBackground());
             g.fillRect(0, 0, c.getWidth(), c.getHeight());
         }
     }
+
+    private static void paintBackground(Graphics g, Component c, int px, int py, int w, int h) {
+        int y = py;
+        while (y < h) {
+            int x = px;
+            while (x < w) {
+                BG_IMAGE.paintIcon(c, g, x, y);
+                x += IMAGE_WIDTH;
+            }
+            y += IMAGE_HEIGHT;
+        }
+    }
     
 } // end of class BernsteinUtils
@@ -212,7 +212,7 @@ public class FastLookAndFeel extends AbstractLookAndFeel {
         if ((myTheme != null) && (themesProps != null)) {
             myTheme.setUpColor();
             myTheme.setProperties(themesProps);
-            myTheme.setUpColorArrs();
+            myTheme.setUpColorArrs(themesProps);
             AbstractLookAndFeel.setTheme(myTheme);
         }
     }
@@ -66,7 +66,7 @@ public class FastTabbedPaneUI extends BaseTabbedPaneUI {
                     }
                 }
             } else if (backColor != null) {
-                colorArr = ColorHelper.createColorArr(backColor, backColor, 2);
+                colorArr = ColorHelper.getSharedColorArr(backColor, backColor, 2);
             }
         }
         return colorArr;
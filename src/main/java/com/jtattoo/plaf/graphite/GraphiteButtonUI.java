@@ -24,8 +24,8 @@ package com.jtattoo.plaf.graphite;
 
 import com.jtattoo.plaf.AbstractLookAndFeel;
 import com.jtattoo.plaf.BaseButtonUI;
+import com.jtattoo.plaf.ClipCache;
 import java.awt.*;
-import java.awt.geom.Area;
 import java.awt.geom.RoundRectangle2D;
 import javax.swing.AbstractButton;
 import javax.swing.JComponent;
@@ -52,11 +52,7 @@ public class GraphiteButtonUI extends BaseButtonUI {
             Graphics2D g2D = (Graphics2D) g;
             Shape savedClip = g.getClip();
             if ((b.getBorder() != null) && b.isBorderPainted() && (b.getBorder() instanceof UIResource)) {
-                Area clipArea = new Area(new RoundRectangle2D.Double(0, 0, w - 1, h - 1, 6, 6));
-                if (savedClip != null) {
-                    clipArea.intersect(new Area(savedClip));
-                }
-                g2D.setClip(clipArea);
+                g2D.setClip(ClipCache.getClip(new RoundRectangle2D.Double(0, 0, w - 1, h - 1, 6, 6), savedClip));
             }
             super.paintBackground(g, b);
             g2D.setClip(savedClip);
@@ -24,7 +24,6 @@ package com.jtattoo.plaf.hifi;
 
 import com.jtattoo.plaf.*;
 import java.awt.*;
-import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import javax.swing.*;
 import javax.swing.plaf.ColorUIResource;
@@ -50,11 +49,7 @@ public class HiFiButtonUI extends BaseButtonUI {
         Graphics2D g2D = (Graphics2D) g;
         Shape savedClip = g.getClip();
         if ((b.getBorder() != null) && b.isBorderPainted() && (b.getBorder() instanceof UIResource)) {
-            Area clipArea = new Area(new Rectangle2D.Double(1, 1, width - 2, height - 2));
-            if (savedClip != null) {
-                clipArea.intersect(new Area(savedClip));
-            }
-            g2D.setClip(clipArea);
+            g2D.setClip(ClipCache.getClip(new Rectangle2D.Double(1, 1, width - 2, height - 2), savedClip));
         }
         super.paintBackground(g, b);
         g2D.setClip(savedClip);
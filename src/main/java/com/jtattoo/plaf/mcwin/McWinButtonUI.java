@@ -24,7 +24,6 @@ package com.jtattoo.plaf.mcwin;
 
 import com.jtattoo.plaf.*;
 import java.awt.*;
-import java.awt.geom.Area;
 import java.awt.geom.RoundRectangle2D;
 import javax.swing.*;
 import javax.swing.plaf.*;
@@ -35,10 +34,26 @@ import javax.swing.plaf.basic.BasicGraphicsUtils;
  */
 public class McWinButtonUI extends BaseButtonUI {
 
+    private static Color[] selectedColors = null;
+    private static Color[] brightDefaultColors = null;
+
     public static ComponentUI createUI(JComponent c) {
         return new McWinButtonUI();
     }
 
+    private static Color[] getBrightDefaultColors() {
+        Color cArr[] = AbstractLookAndFeel.getTheme().getSelectedColors();
+        if (cArr != selectedColors) {
+            Color colors[] = new Color[cArr.length];
+            for (int i = 0; i < cArr.length; i++) {
+                colors[i] = ColorHelper.brighter(cArr[i], 50);
+            }
+            brightDefaultColors = colors;
+            selectedColors = cArr;
+        }
+        return brightDefaultColors;
+    }
+
     @Override
     protected void paintBackground(Graphics g, AbstractButton b) {
         if (b.getParent() instanceof JToolBar) {
@@ -83,10 +98,7 @@ public class McWinButtonUI extends BaseButtonUI {
                                 colors = AbstractLookAndFeel.getTheme().getFocusColors();
                             } else {
                                 if (AbstractLookAndFeel.getTheme().isBrightMode()) {
-                                    colors = new Color[AbstractLookAndFeel.getTheme().getSelectedColors().length];
-                                    for (int i = 0; i < colors.length; i++) {
-                                        colors[i] = ColorHelper.brighter(AbstractLookAndFeel.getTheme().getSelectedColors()[i], 50);
-                                    }
+                                    colors = getBrightDefaultColors();
                                 } else {
                                     colors = AbstractLookAndFeel.getTheme().getSelectedColors();
                                 }
@@ -100,12 +112,12 @@ public class McWinButtonUI extends BaseButtonUI {
                 }
             } else { // backgound != ColorUIResource
                 if (model.isPressed() && model.isArmed()) {
-                    colors = ColorHelper.createColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
+                    colors = ColorHelper.getSharedColorArr(ColorHelper.darker(background, 30), ColorHelper.darker(background, 10), 20);
                 } else {
                     if (b.isRolloverEnabled() && model.isRollover()) {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 50), ColorHelper.brighter(background, 10), 20);
                     } else {
-                        colors = ColorHelper.createColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
+                        colors = ColorHelper.getSharedColorArr(ColorHelper.brighter(background, 30), ColorHelper.darker(background, 10), 20);
                     }
                 }
             }
@@ -128,11 +140,7 @@ public class McWinButtonUI extends BaseButtonUI {
             Color frameColor = colors[colors.length / 2];
 
             Shape savedClip = g.getClip();
-            Area clipArea = new Area(new RoundRectangle2D.Double(0, 0, width - 1, height - 1, d, d));
-            if (savedClip != null) {
-                clipArea.intersect(new Area(savedClip));
-            }
-            g2D.setClip(clipArea);
+            g2D.setClip(ClipCache.getClip(new RoundRectangle2D.Double(0, 0, width - 1, height - 1, d, d), savedClip));
             JTattooUtilities.fillHorGradient(g, colors, 0, 0, width - 1, height - 1);
             g2D.setClip(savedClip);
 
@@ -98,7 +98,7 @@ public class McWinInternalFrameTitlePane extends BaseInternalFrameTitlePane {
             }
             FontMetrics fm = JTattooUtilities.getFontMetrics(McWinInternalFrameTitlePane.this, null, getFont());
             String frameTitle = frame.getTitle();
-            int title_w = frameTitle != null ? fm.stringWidth(frameTitle) : 0;
+            int title_w = TextWidthCache.getStringWidth(fm, frameTitle);
             int title_length = frameTitle != null ? frameTitle.length() : 0;
 
             if (title_length > 2) {
@@ -30,6 +30,14 @@ import java.awt.*;
  */
 public class McWinUtils {
 
+    private static final WindowBackgroundCache.BackgroundPainter BACKGROUND_PAINTER = new WindowBackgroundCache.BackgroundPainter() {
+
+        @Override
+        public void paintBackground(Component c, Graphics g, int w, int h) {
+            McWinUtils.paintBackground(g, 0, w, h);
+        }
+    };
+
     private McWinUtils() {
     }
 
@@ -53,21 +61,28 @@ public class McWinUtils {
 
     public static void fillComponent(Graphics g, Component c) {
         if (AbstractLookAndFeel.getTheme().isBackgroundPatternOn()) {
-            int w = c.getWidth();
-            int h = c.getHeight();
-            Point p = JTattooUtilities.getRelLocation(c);
-            int y = 2 - (p.y % 3);
-            g.setColor(AbstractLookAndFeel.getTheme().getBackgroundColorLight());
-            g.fillRect(0, 0, w, h);
-            g.setColor(AbstractLookAndFeel.getTheme().getBackgroundColorDark());
-            while (y < h) {
-                g.drawLine(0, y, w, y);
-                y += 3;
+            Color lightColor = AbstractLookAndFeel.getTheme().getBackgroundColorLight();
+            Color darkColor = AbstractLookAndFeel.getTheme().getBackgroundColorDark();
+            Long key = new Long(((long) lightColor.getRGB() << 32) | (darkColor.getRGB() & 0xffffffffL));
+            if (!WindowBackgroundCache.drawBackground(g, c, key, BACKGROUND_PAINTER)) {
+                Point p = JTattooUtilities.getRelLocation(c);
+                paintBackground(g, p.y, c.getWidth(), c.getHeight());
             }
         } else {
             g.setColor(c.getBackground());
             g.fillRect(0, 0, c.getWidth(), c.getHeight());
         }
     }
+
+    private static void paintBackground(Graphics g, int py, int w, int h) {
+        int y = 2 - (py % 3);
+        g.setColor(AbstractLookAndFeel.getTheme().getBackgroundColorLight());
+        g.fillRect(0, 0, w, h);
+        g.setColor(AbstractLookAndFeel.getTheme().getBackgroundColorDark());
+        while (y < h) {
+            g.drawLine(0, y, w, y);
+            y += 3;
+        }
+    }
     
 } // end of class McWinUtils
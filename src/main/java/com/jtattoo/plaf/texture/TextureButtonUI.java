@@ -25,7 +25,6 @@ package com.jtattoo.plaf.texture;
 
 import com.jtattoo.plaf.*;
 import java.awt.*;
-import java.awt.geom.Area;
 import java.awt.geom.RoundRectangle2D;
 import javax.swing.*;
 import javax.swing.plaf.ColorUIResource;
@@ -52,9 +51,7 @@ public class TextureButtonUI extends BaseButtonUI {
             if ((b.getBorder() != null) && b.isBorderPainted() && (b.getBorder() instanceof UIResource)) {
                 int w = b.getWidth();
                 int h = b.getHeight();
-                Area clipArea = new Area(new RoundRectangle2D.Double(0, 0, w - 1, h - 1, 6, 6));
-                clipArea.intersect(new Area(savedClip));
-                g2D.setClip(clipArea);
+                g2D.setClip(ClipCache.getClip(new RoundRectangle2D.Double(0, 0, w - 1, h - 1, 6, 6), savedClip));
             }
             super.paintBackground(g, b);
             g2D.setClip(savedClip);
@@ -24,8 +24,6 @@ package com.jtattoo.plaf.texture;
 
 import com.jtattoo.plaf.*;
 import java.awt.*;
-import java.awt.geom.Area;
-import java.awt.geom.Rectangle2D;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 
@@ -190,60 +188,24 @@ public class TextureUtils {
     }
 
     public static void fillComponent(Graphics g, Component c, int x, int y, int w, int h, int textureType) {
-        Graphics2D g2D = (Graphics2D) g;
-        Shape savedClip = g2D.getClip();
-        Area clipArea = new Area(new Rectangle2D.Double(x, y, w, h));
-        if (savedClip != null) {
-            clipArea.intersect(new Area(savedClip));
-        }
-        g2D.setClip(clipArea);
-        Icon texture = getTexture(textureType);
-        if (texture != null) {
-            int tw = texture.getIconWidth();
-            int th = texture.getIconHeight();
+        TexturePaint texturePaint = JTattooUtilities.getTexturePaint(getTexture(textureType));
+        if (texturePaint != null) {
             Point p = JTattooUtilities.getRelLocation(c);
-            int ys = y - p.y;
-            while (ys < (y + h)) {
-                int xs = x - p.x;
-                while (xs < (x + w)) {
-                    texture.paintIcon(c, g, xs, ys);
-                    xs += tw;
-                }
-                ys += th;
-            }
+            JTattooUtilities.fillTexture(g, texturePaint, x - p.x, y - p.y, x, y, w, h);
         } else {
             g.setColor(c.getBackground());
             g.fillRect(x, y, w, h);
         }
-        g2D.setClip(savedClip);
     }
 
     public static void fillRect(Graphics g, Component c, int x, int y, int w, int h, int textureType) {
-        Graphics2D g2D = (Graphics2D) g;
-        Shape savedClip = g2D.getClip();
-        Area clipArea = new Area(new Rectangle2D.Double(x, y, w, h));
-        if (savedClip != null) {
-            clipArea.intersect(new Area(savedClip));
-        }
-        g2D.setClip(clipArea);
-        Icon texture = getTexture(textureType);
-        if (texture != null) {
-            int tw = texture.getIconWidth();
-            int th = texture.getIconHeight();
-            int ys = y;
-            while (ys < (y + h)) {
-                int xs = x;
-                while (xs < (x + w)) {
-                    texture.paintIcon(c, g, xs, ys);
-                    xs += tw;
-                }
-                ys += th;
-            }
+        TexturePaint texturePaint = JTattooUtilities.getTexturePaint(getTexture(textureType));
+        if (texturePaint != null) {
+            JTattooUtilities.fillTexture(g, texturePaint, x, y, x, y, w, h);
         } else {
             g.setColor(c.getBackground());
             g.fillRect(x, y, w, h);
         }
-        g2D.setClip(savedClip);
     }
     
 } // end of class TextureUtils